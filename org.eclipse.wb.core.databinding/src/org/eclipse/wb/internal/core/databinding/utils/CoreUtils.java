@@ -11,6 +11,8 @@
 package org.eclipse.wb.internal.core.databinding.utils;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
 
 import org.eclipse.wb.core.eval.AstEvaluationEngine;
 import org.eclipse.wb.core.eval.EvaluationContext;
@@ -42,11 +44,18 @@ import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 
+import org.apache.commons.lang.ClassUtils;
 import org.osgi.framework.Version;
 
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Various utilities for Bindings.
@@ -447,4 +456,65 @@ public final class CoreUtils {
   public static String getClassName(Class<?> clazz) {
     return clazz.getName().replace('$', '.');
   }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Beans
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Introspection results shared by all editors and bindings modules. Keys are weak, so cache does
+   * not keep project {@link ClassLoader} after editor close; values are soft, because
+   * {@link PropertyDescriptor}'s reference methods of their bean {@link Class}, so strong values
+   * would keep keys forever.
+   */
+  private static final Map<Class<?>, List<PropertyDescriptor>> m_classToDescriptors =
+      new MapMaker().weakKeys().softValues().makeMap();
+
+  /**
+   * @return the new {@link List} with {@link PropertyDescriptor} properties for given bean
+   *         {@link Class}, including properties of interfaces for interface or abstract
+   *         {@link Class}.
+   */
+  public static List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass)
+      throws Exception {
+    List<PropertyDescriptor> descriptors = m_classToDescriptors.get(beanClass);
+    if (descriptors == null) {
+      descriptors = Collections.unmodifiableList(createPropertyDescriptors(beanClass));
+      m_classToDescriptors.put(beanClass, descriptors);
+    }
+    return Lists.newArrayList(descriptors);
+  }
+
+  private static List<PropertyDescriptor> createPropertyDescriptors(Class<?> beanClass)
+      throws Exception {
+    List<PropertyDescriptor> descriptors = Lists.newArrayList();
+    Set<String> names = Sets.newHashSet();
+    // handle interfaces
+    if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
+      List<Class<?>> interfaces = cast(ClassUtils.getAllInterfaces(beanClass));
+      for (Class<?> i : interfaces) {
+        BeanInfo beanInfo = Introspector.getBeanInfo(i);
+        addDescriptors(descriptors, names, beanInfo.getPropertyDescriptors());
+      }
+    }
+    // handle bean
+    BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
+    addDescriptors(descriptors, names, beanInfo.getPropertyDescriptors());
+    //
+    return descriptors;
+  }
+
+  /**
+   * Adds typed {@link PropertyDescriptor}'s with names that are not added yet.
+   */
+  private static void addDescriptors(List<PropertyDescriptor> descriptors,
+      Set<String> names,
+      PropertyDescriptor[] newDescriptors) {
+    for (PropertyDescriptor descriptor : newDescriptors) {
+      if (descriptor.getPropertyType() != null && names.add(descriptor.getName())) {
+        descriptors.add(descriptor);
+      }
+    }
+  }
 }
\ No newline at end of file
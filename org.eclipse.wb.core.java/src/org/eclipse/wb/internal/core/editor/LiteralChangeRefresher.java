@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2011 Google, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Google, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor;
+
+import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
+import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.model.ObjectInfoVisitor;
+import org.eclipse.wb.internal.core.model.description.GenericPropertyDescription;
+import org.eclipse.wb.internal.core.model.property.accessor.ExpressionAccessor;
+import org.eclipse.wb.internal.core.model.property.accessor.SetterAccessor;
+import org.eclipse.wb.internal.core.model.property.editor.string.StringPropertyEditor;
+import org.eclipse.wb.internal.core.utils.StringUtilities;
+import org.eclipse.wb.internal.core.utils.ast.AstEditor;
+import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
+import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Helper for applying source change that only modifies text inside of single {@link StringLiteral}
+ * argument of plain <code>String</code> property setter, such as <code>setText("...")</code>.
+ * Such change can not change structure of components, so instead of full reparse we update existing
+ * AST and just refresh existing {@link JavaInfo} hierarchy.
+ * <p>
+ * Other literals, such as layout constraints or NLS keys, are parsed into model state, which is not
+ * rebuilt by refresh, so they always require reparse.
+ *
+ * @author scheglov_ke
+ * @coverage core.editor
+ */
+final class LiteralChangeRefresher {
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructor
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  private LiteralChangeRefresher() {
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Access
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Tries to apply change of source into existing {@link JavaInfo} hierarchy.
+   *
+   * @return <code>true</code> if change was applied and hierarchy refreshed, or
+   *         <code>false</code> if change is structural, so full reparse is required.
+   */
+  static boolean refresh(JavaInfo root, String newSource) {
+    AstEditor editor = root.getEditor();
+    String oldSource = editor.getSource();
+    if (oldSource.equals(newSource)) {
+      return false;
+    }
+    // prepare changed interval
+    int[] intervals = StringUtilities.getDifferenceIntervals(oldSource, newSource);
+    int oldBegin = intervals[0];
+    int oldLength = intervals[1];
+    String removedText = oldSource.substring(oldBegin, oldBegin + oldLength);
+    String newText = newSource.substring(intervals[2], intervals[2] + intervals[3]);
+    if (!isSafeLiteralText(removedText) || !isSafeLiteralText(newText)) {
+      return false;
+    }
+    // change should be inside of StringLiteral, between quotes
+    StringLiteral literal;
+    {
+      ASTNode node = editor.getEnclosingNode(oldBegin);
+      if (!(node instanceof StringLiteral)) {
+        return false;
+      }
+      literal = (StringLiteral) node;
+      int literalBegin = AstNodeUtils.getSourceBegin(literal);
+      int literalEnd = AstNodeUtils.getSourceEnd(literal);
+      if (oldBegin <= literalBegin || oldBegin + oldLength >= literalEnd) {
+        return false;
+      }
+    }
+    // only argument of String property setter
+    if (!isStringPropertySetterArgument(root, literal)) {
+      return false;
+    }
+    // update AST and refresh, if this fails, caller will reparse and drop this AST
+    try {
+      editor.replaceSubstring(oldBegin, oldLength, newText);
+      literal.setEscapedValue(editor.getSource(literal));
+      editor.setSourceCommitted();
+      root.refresh();
+      return true;
+    } catch (Throwable e) {
+      DesignerPlugin.log(e);
+      return false;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Utils
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * @return <code>true</code> if given text can be added/removed in {@link StringLiteral} without
+   *         changing its bounds.
+   */
+  private static boolean isSafeLiteralText(String text) {
+    return StringUtils.containsNone(text, "\"\\\r\n");
+  }
+
+  /**
+   * @return <code>true</code> if given {@link StringLiteral} is single argument of setter for
+   *         <code>String</code> property of some {@link JavaInfo}, with standard
+   *         {@link StringPropertyEditor}.
+   */
+  private static boolean isStringPropertySetterArgument(JavaInfo root, StringLiteral literal) {
+    if (literal.getLocationInParent() != MethodInvocation.ARGUMENTS_PROPERTY) {
+      return false;
+    }
+    final MethodInvocation invocation = (MethodInvocation) literal.getParent();
+    if (invocation.arguments().size() != 1) {
+      return false;
+    }
+    // find JavaInfo of this invocation
+    final JavaInfo[] javaInfo = new JavaInfo[1];
+    root.accept(new ObjectInfoVisitor() {
+      @Override
+      public boolean visit(ObjectInfo objectInfo) throws Exception {
+        if (javaInfo[0] == null
+            && objectInfo instanceof JavaInfo
+            && ((JavaInfo) objectInfo).getMethodInvocations().contains(invocation)) {
+          javaInfo[0] = (JavaInfo) objectInfo;
+        }
+        return javaInfo[0] == null;
+      }
+    });
+    if (javaInfo[0] == null) {
+      return false;
+    }
+    // check property
+    String signature = AstNodeUtils.getMethodSignature(invocation);
+    GenericPropertyDescription property = javaInfo[0].getDescription().getProperty(signature);
+    if (property == null
+        || property.getType() != String.class
+        || property.getEditor() == null
+        || property.getEditor().getClass() != StringPropertyEditor.class) {
+      return false;
+    }
+    for (ExpressionAccessor accessor : property.getAccessorsList()) {
+      if (accessor instanceof SetterAccessor) {
+        String setterSignature =
+            ReflectionUtils.getMethodSignature(((SetterAccessor) accessor).getSetter());
+        if (setterSignature.equals(signature)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
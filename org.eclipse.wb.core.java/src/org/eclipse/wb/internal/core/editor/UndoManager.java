@@ -12,6 +12,7 @@ package org.eclipse.wb.internal.core.editor;
 
 import com.google.common.collect.Lists;
 
+import org.eclipse.wb.core.editor.DesignerState;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.core.model.broadcast.ObjectEventListener;
 import org.eclipse.wb.internal.core.DesignerPlugin;
@@ -49,18 +50,19 @@ public final class UndoManager {
   private final IBuffer m_buffer;
   private final IFile m_unitFile;
   @SuppressWarnings("unchecked")
-  private final Map<String, int[][]> m_sourceToSelection = new LRUMap(32);
+  private final Map<Long, int[][]> m_sourceToSelection = new LRUMap(32);
   @SuppressWarnings("unchecked")
-  private final Map<String, int[][]> m_dumpToSelection = new LRUMap(32);
+  private final Map<Long, int[][]> m_dumpToSelection = new LRUMap(32);
   @SuppressWarnings("unchecked")
-  private final Map<String, int[][]> m_dumpToExpanded = new LRUMap(32);
+  private final Map<Long, int[][]> m_dumpToExpanded = new LRUMap(32);
   private IComponentsTree m_componentsTree;
   private ISelectionProvider m_selectionProvider;
   private ITreeContentProvider m_componentsProvider;
   private ObjectPathHelper m_objectPathHelper;
   private JavaInfo m_root;
   private String m_currentSource;
-  private String m_currentDump;
+  private Long m_currentSourceKey;
+  private Long m_currentDumpKey;
 
   ////////////////////////////////////////////////////////////////////////////
   //
@@ -206,13 +208,28 @@ public final class UndoManager {
    */
   private void rememberSource() {
     m_currentSource = m_buffer.getContents();
+    m_currentSourceKey = getContentKey(m_currentSource);
   }
 
   /**
    * Remembers current dump.
    */
   private void rememberDump() {
-    m_currentDump = ObjectPathHelper.getObjectsDump(m_root, 0);
+    String dump = ObjectPathHelper.getObjectsDump(m_root, 0);
+    m_currentDumpKey = getContentKey(dump);
+  }
+
+  /**
+   * @return the compact key for given source or dump, so we don't keep many copies of big
+   *         {@link String}'s in caches.
+   */
+  private static Long getContentKey(String content) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < content.length(); i++) {
+      hash ^= content.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash ^ (long) content.length() << 32;
   }
 
   /**
@@ -230,14 +247,14 @@ public final class UndoManager {
       }
       // remember
       int[][] paths = m_objectPathHelper.getObjectsPaths(selectedObjects);
-      m_sourceToSelection.put(m_currentSource, paths);
-      m_dumpToSelection.put(m_currentDump, paths);
+      m_sourceToSelection.put(m_currentSourceKey, paths);
+      m_dumpToSelection.put(m_currentDumpKey, paths);
     }
     // expanded
     {
       Object[] expandedObjects = m_componentsTree.getExpandedElements();
       int[][] paths = m_objectPathHelper.getObjectsPaths(expandedObjects);
-      m_dumpToExpanded.put(m_currentDump, paths);
+      m_dumpToExpanded.put(m_currentDumpKey, paths);
     }
   }
 
@@ -257,10 +274,10 @@ public final class UndoManager {
     int[][] paths;
     {
       // get "source based" selection
-      paths = m_sourceToSelection.get(m_currentSource);
+      paths = m_sourceToSelection.get(m_currentSourceKey);
       // if no "source based" selection, use "dump based" one
       if (paths == null) {
-        paths = m_dumpToSelection.get(m_currentDump);
+        paths = m_dumpToSelection.get(m_currentDumpKey);
       }
     }
     // do restore
@@ -279,7 +296,7 @@ public final class UndoManager {
    * Tries to restore expanded elements for current source.
    */
   private void restoreExpanded() {
-    int[][] paths = m_dumpToExpanded.get(m_currentDump);
+    int[][] paths = m_dumpToExpanded.get(m_currentDumpKey);
     // do restore
     if (paths != null) {
       Object[] objects = m_objectPathHelper.getObjectsForPaths(paths);
@@ -375,6 +392,13 @@ public final class UndoManager {
    * Informs {@link DesignPage} that buffer was changed and reparse required.
    */
   void refreshDesignerEditor() {
+    // try to apply simple change into existing hierarchy
+    if (m_root != null
+        && m_designPage.getDesignerState() == DesignerState.Successful
+        && LiteralChangeRefresher.refresh(m_root, m_buffer.getContents())) {
+      return;
+    }
+    // full reparse
     rememberSource();
     // refresh viewer
     removeSelectionListener();
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2011 Google, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Google, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.model.description.helpers;
+
+import com.google.common.collect.Maps;
+import com.google.common.io.Files;
+
+import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.model.description.resource.ResourceInfo;
+import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtensionDelta;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IRegistryChangeEvent;
+import org.eclipse.core.runtime.IRegistryChangeListener;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+import org.osgi.framework.Bundle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent cache for locations of description resources in toolkit {@link Bundle}'s.
+ * <p>
+ * Each resource is searched in all toolkit {@link Bundle}'s, for each class in hierarchy, so on
+ * cold start we spend much time to find that there are no such resources. So, we remember in file
+ * which {@link Bundle} has resource with given name, or that no {@link Bundle} has it. Cache is
+ * stale when any toolkit {@link Bundle} is installed, updated or removed.
+ * <p>
+ * If some toolkit {@link Bundle} is directory, for example in development mode, its resources can
+ * be added or changed without changing {@link Bundle}, so we don't use file and don't remember that
+ * resource was not found.
+ *
+ * @author scheglov_ke
+ * @coverage core.model.description
+ */
+final class BundleResourceCache {
+  private static final String POINT_TOOLKITS = "org.eclipse.wb.core.toolkits";
+  private static Map<String, String[]> m_entries;
+  private static Map<String, Bundle> m_bundles;
+  private static File m_cacheFile;
+  private static boolean m_persistent;
+  private static File m_customCacheFile;
+  private static boolean m_customPersistent;
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructor
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  private BundleResourceCache() {
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Access
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Caching version of {@link DescriptionHelper#getResourceInfo(String, String)}.
+   */
+  static synchronized ResourceInfo getResourceInfo(String name, String activeToolkitId)
+      throws Exception {
+    ensureLoaded();
+    String key = StringUtils.defaultString(activeToolkitId) + " " + name;
+    // try to use cached location
+    {
+      String[] entry = m_entries.get(key);
+      if (entry != null) {
+        if (entry.length == 0) {
+          return null;
+        }
+        Bundle bundle = m_bundles.get(entry[1]);
+        if (bundle != null) {
+          ResourceInfo resource = DescriptionHelper.getResourceInfo(entry[0], bundle, name);
+          if (resource != null) {
+            return resource;
+          }
+        }
+      }
+    }
+    // find resource and remember its location
+    ResourceInfo resource = DescriptionHelper.getResourceInfo(name, activeToolkitId);
+    String[] entry;
+    if (resource != null) {
+      String toolkitId = resource.getToolkit().getId();
+      entry = new String[]{toolkitId, resource.getBundle().getSymbolicName()};
+    } else if (m_persistent) {
+      entry = new String[0];
+    } else {
+      return null;
+    }
+    m_entries.put(key, entry);
+    if (m_persistent) {
+      m_pendingEntries.put(key, entry);
+      m_writeJob.schedule(WRITE_DELAY);
+    }
+    return resource;
+  }
+
+  /**
+   * Specifies file to use instead of default one in plugin state location, and if cache should be
+   * persistent, even when there are directory {@link Bundle}'s. Use <code>null</code> to restore
+   * default file. Loaded entries are discarded, so file is loaded on next access.
+   */
+  static synchronized void setCacheFile(File cacheFile, boolean persistent) {
+    writePendingEntries();
+    m_customCacheFile = cacheFile;
+    m_customPersistent = persistent;
+    m_entries = null;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Loading
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  private static final IRegistryChangeListener m_toolkitsListener = new IRegistryChangeListener() {
+    public void registryChanged(IRegistryChangeEvent event) {
+      for (IExtensionDelta extensionDelta : event.getExtensionDeltas()) {
+        String pointId = extensionDelta.getExtensionPoint().getUniqueIdentifier();
+        if (POINT_TOOLKITS.equals(pointId)) {
+          synchronized (BundleResourceCache.class) {
+            m_entries = null;
+            m_pendingEntries.clear();
+          }
+        }
+      }
+    }
+  };
+  static {
+    Platform.getExtensionRegistry().addRegistryChangeListener(m_toolkitsListener);
+  }
+
+  private static void ensureLoaded() throws Exception {
+    if (m_entries == null) {
+      m_entries = Maps.newHashMap();
+      m_bundles = Maps.newHashMap();
+      m_cacheFile = m_customCacheFile != null ? m_customCacheFile : getCacheFile();
+      m_persistent = true;
+      // prepare signature of toolkit bundles
+      String signature;
+      {
+        StringBuilder buffer = new StringBuilder();
+        List<IConfigurationElement> toolkitElements = DescriptionHelper.getToolkitElements();
+        for (IConfigurationElement toolkitElement : toolkitElements) {
+          Bundle bundle = ExternalFactoriesHelper.getExtensionBundle(toolkitElement);
+          if (!m_bundles.containsKey(bundle.getSymbolicName())) {
+            m_bundles.put(bundle.getSymbolicName(), bundle);
+            m_persistent &= !isDirectoryBundle(bundle);
+            buffer.append(bundle.getBundleId());
+            buffer.append(' ');
+            buffer.append(bundle.getSymbolicName());
+            buffer.append(' ');
+            buffer.append(bundle.getVersion());
+            buffer.append(' ');
+            buffer.append(bundle.getLastModified());
+            buffer.append('\n');
+          }
+        }
+        signature = buffer.toString();
+      }
+      if (m_customCacheFile != null) {
+        m_persistent = m_customPersistent;
+      }
+      if (!m_persistent) {
+        return;
+      }
+      // load entries, if cache is not stale
+      try {
+        if (!loadFromCacheFile(signature)) {
+          createNewCacheFile(signature);
+        }
+      } catch (Throwable e) {
+        DesignerPlugin.log(e);
+        m_entries.clear();
+        m_persistent = false;
+        try {
+          m_cacheFile.delete();
+        } catch (Throwable e2) {
+        }
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if given {@link Bundle} is directory, so its resources can be changed
+   *         without changing {@link Bundle}.
+   */
+  private static boolean isDirectoryBundle(Bundle bundle) {
+    try {
+      return FileLocator.getBundleFile(bundle).isDirectory();
+    } catch (Throwable e) {
+      return true;
+    }
+  }
+
+  /**
+   * @return <code>false</code> if there is no cache file, it was created for different signature,
+   *         or it is corrupted.
+   */
+  private static boolean loadFromCacheFile(String signature) throws Exception {
+    if (!m_cacheFile.exists()) {
+      return false;
+    }
+    InputStream inputStream = new BufferedInputStream(new FileInputStream(m_cacheFile));
+    try {
+      DataInputStream dataInput = new DataInputStream(inputStream);
+      if (!signature.equals(dataInput.readUTF())) {
+        return false;
+      }
+      while (dataInput.available() != 0) {
+        String key = dataInput.readUTF();
+        int length = dataInput.readInt();
+        if (length != 0 && length != 2) {
+          m_entries.clear();
+          return false;
+        }
+        String[] entry = new String[length];
+        for (int i = 0; i < entry.length; i++) {
+          entry[i] = dataInput.readUTF();
+        }
+        m_entries.put(key, entry);
+      }
+      return true;
+    } catch (IOException e) {
+      // truncated or corrupted file, new entries can not be appended to it
+      m_entries.clear();
+      return false;
+    } finally {
+      IOUtils.closeQuietly(inputStream);
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Writing
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  private static File getCacheFile() throws Exception {
+    File stateDirectory = DesignerPlugin.getDefault().getStateLocation().toFile();
+    File descriptionsDirectory = new File(stateDirectory, "descriptions");
+    File cacheFile = new File(descriptionsDirectory, "bundle-resources.dat");
+    Files.createParentDirs(cacheFile);
+    return cacheFile;
+  }
+
+  private static void createNewCacheFile(String signature) throws Exception {
+    OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(m_cacheFile));
+    DataOutputStream dataOutput = new DataOutputStream(outputStream);
+    try {
+      dataOutput.writeUTF(signature);
+    } finally {
+      IOUtils.closeQuietly(dataOutput);
+    }
+  }
+
+  /**
+   * Entries which are not written yet into cache file.
+   */
+  private static final Map<String, String[]> m_pendingEntries = Maps.newLinkedHashMap();
+  private static final long WRITE_DELAY = 1000;
+  /**
+   * {@link Job} for appending pending entries, so that we don't access file for each new entry.
+   */
+  private static final Job m_writeJob = new Job("Writing WindowBuilder resources cache") {
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      writePendingEntries();
+      return Status.OK_STATUS;
+    }
+  };
+  static {
+    m_writeJob.setSystem(true);
+  }
+
+  /**
+   * Appends pending entries into cache file.
+   */
+  static synchronized void writePendingEntries() {
+    if (m_pendingEntries.isEmpty()) {
+      return;
+    }
+    try {
+      OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(m_cacheFile, true));
+      DataOutputStream dataOutput = new DataOutputStream(outputStream);
+      try {
+        for (Map.Entry<String, String[]> mapEntry : m_pendingEntries.entrySet()) {
+          String[] entry = mapEntry.getValue();
+          dataOutput.writeUTF(mapEntry.getKey());
+          dataOutput.writeInt(entry.length);
+          for (String value : entry) {
+            dataOutput.writeUTF(value);
+          }
+        }
+      } finally {
+        IOUtils.closeQuietly(dataOutput);
+      }
+    } catch (Throwable e) {
+      DesignerPlugin.log(e);
+    }
+    m_pendingEntries.clear();
+  }
+}
@@ -298,7 +298,7 @@ public final class DescriptionHelper {
       boolean tryContext) throws Exception {
     // check bundles with toolkits
     {
-      ResourceInfo resource = getResourceInfo(name, context.getToolkitId());
+      ResourceInfo resource = BundleResourceCache.getResourceInfo(name, context.getToolkitId());
       if (resource != null) {
         return resource;
       }
@@ -274,6 +274,14 @@ public final class AstEditor {
     }
   }
 
+  /**
+   * Informs that current source is already same as in underlying {@link ICompilationUnit}, for
+   * example because same change was done directly in its buffer, so it should not be committed.
+   */
+  public void setSourceCommitted() {
+    m_oldContent = m_document.get();
+  }
+
   /**
    * Commits changes into {@link ICompilationUnit} and saves it, if not opened in editor.
    */
@@ -847,6 +855,15 @@ public final class AstEditor {
     final int oldEnd = oldStart + oldLength;
     // prepare visitor
     ASTVisitor visitor = new ASTVisitor(true) {
+      /**
+       * Children are always inside of parent, so if parent ends before changed region, then all its
+       * children also end before it and don't need any update or check.
+       */
+      @Override
+      public boolean preVisit2(ASTNode node) {
+        return node.getStartPosition() + node.getLength() > oldStart;
+      }
+
       @Override
       public void postVisit(ASTNode node) {
         int position = node.getStartPosition();
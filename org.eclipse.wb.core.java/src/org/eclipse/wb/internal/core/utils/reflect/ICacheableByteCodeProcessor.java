@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2011 Google, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Google, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.reflect;
+
+/**
+ * {@link IByteCodeProcessor} which result can be cached by {@link ProjectClassLoader} and reused
+ * by other {@link ProjectClassLoader}'s of same project.
+ * <p>
+ * Result of {@link #process(String, byte[])} should depend only on given bytes and on state
+ * described by {@link #getCacheKey()}. Also {@link #process(String, byte[])} should not have side
+ * effects, because it is not invoked if cached result is used.
+ *
+ * @author scheglov_ke
+ * @coverage core.util
+ */
+public interface ICacheableByteCodeProcessor extends IByteCodeProcessor {
+  /**
+   * @return the key that describes all state of this processor that may affect result of
+   *         {@link #process(String, byte[])}.
+   */
+  String getCacheKey();
+}
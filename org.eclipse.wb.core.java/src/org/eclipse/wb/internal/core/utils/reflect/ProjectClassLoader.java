@@ -28,6 +28,7 @@ import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 import org.eclipse.jdt.launching.JavaRuntime;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.map.LRUMap;
 import org.apache.commons.lang.StringUtils;
 import org.objectweb.asm.ClassReader;
 
@@ -37,8 +38,10 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.security.CodeSource;
 import java.security.cert.Certificate;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.swing.UIDefaults;
@@ -384,18 +387,7 @@ public class ProjectClassLoader extends URLClassLoader {
       try {
         // read class bytes
         byte[] bytes = IOUtils2.readBytes(input);
-        // apply processors
-        for (IByteCodeProcessor processor : m_processors) {
-          bytes = processor.process(className, bytes);
-        }
-        // implement abstract methods (only for required classes)
-        if (m_nonAbstractClasses.contains(className)) {
-          ClassReader classReader = new ClassReader(bytes);
-          AbstractMethodsImplementorVisitor rewriter =
-              new AbstractMethodsImplementorVisitor(className);
-          classReader.accept(rewriter, 0);
-          bytes = rewriter.toByteArray();
-        }
+        bytes = transformBytes(className, bytes);
         // define package
         {
           String pkgName = StringUtils.substringBeforeLast(className, ".");
@@ -412,6 +404,102 @@ public class ProjectClassLoader extends URLClassLoader {
     }
   }
 
+  /**
+   * @return the bytes of class transformed by {@link IByteCodeProcessor}'s and
+   *         {@link AbstractMethodsImplementorVisitor}, may be same bytes if no transformation
+   *         happened.
+   */
+  private byte[] transformBytes(String className, byte[] originalBytes) {
+    String cacheKey = getTransformedCacheKey(className);
+    // try to use cached result of same transformation
+    if (cacheKey != null) {
+      byte[] transformedBytes = getTransformedBytes(cacheKey, originalBytes);
+      if (transformedBytes != null) {
+        return transformedBytes;
+      }
+    }
+    // apply processors
+    byte[] bytes = originalBytes;
+    for (IByteCodeProcessor processor : m_processors) {
+      bytes = processor.process(className, bytes);
+    }
+    // implement abstract methods (only for required classes)
+    if (m_nonAbstractClasses.contains(className)) {
+      ClassReader classReader = new ClassReader(bytes);
+      AbstractMethodsImplementorVisitor rewriter =
+          new AbstractMethodsImplementorVisitor(className);
+      classReader.accept(rewriter, 0);
+      bytes = rewriter.toByteArray();
+    }
+    // remember only real transformations, no need to keep copies of original bytes
+    if (cacheKey != null && bytes != originalBytes) {
+      putTransformedBytes(cacheKey, originalBytes, bytes);
+    }
+    return bytes;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Transformed bytes cache
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Cache of transformed class bytes, shared by all {@link ProjectClassLoader}'s, so when designer
+   * is opened again (or for other editor of same project) we don't transform same classes again.
+   * Each value is pair of original and transformed bytes, original bytes are used to validate that
+   * class was not changed.
+   */
+  @SuppressWarnings("unchecked")
+  private static final Map<String, byte[][]> m_transformedBytes = new LRUMap(256);
+
+  /**
+   * @return the key for caching transformed bytes of given class, or <code>null</code> if some
+   *         {@link IByteCodeProcessor} is not {@link ICacheableByteCodeProcessor}, so its result
+   *         can not be cached. Key includes everything that may affect transformation: project,
+   *         state of {@link ICacheableByteCodeProcessor}'s and "non-abstract" flag.
+   */
+  private String getTransformedCacheKey(String className) {
+    StringBuilder key = new StringBuilder();
+    if (m_javaProject != null) {
+      key.append(m_javaProject.getElementName());
+    }
+    for (IByteCodeProcessor processor : m_processors) {
+      if (!(processor instanceof ICacheableByteCodeProcessor)) {
+        return null;
+      }
+      key.append('|');
+      key.append(processor.getClass().getName());
+      key.append('|');
+      key.append(((ICacheableByteCodeProcessor) processor).getCacheKey());
+    }
+    key.append('|');
+    key.append(m_nonAbstractClasses.contains(className));
+    key.append('|');
+    key.append(className);
+    return key.toString();
+  }
+
+  /**
+   * @return the cached transformed bytes, may be <code>null</code> if no transformation was cached
+   *         or class was changed since.
+   */
+  private static byte[] getTransformedBytes(String key, byte[] originalBytes) {
+    byte[][] entry;
+    synchronized (m_transformedBytes) {
+      entry = m_transformedBytes.get(key);
+    }
+    if (entry != null && Arrays.equals(entry[0], originalBytes)) {
+      return entry[1];
+    }
+    return null;
+  }
+
+  private static void putTransformedBytes(String key, byte[] originalBytes, byte[] transformedBytes) {
+    synchronized (m_transformedBytes) {
+      m_transformedBytes.put(key, new byte[][]{originalBytes, transformedBytes});
+    }
+  }
+
   private static void ensureCodeSource() {
     if (m_fakeCodeSource == null) {
       try {
@@ -20,6 +20,7 @@ import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.core.model.broadcast.BroadcastSupport;
 import org.eclipse.wb.internal.core.model.description.factory.FactoryMethodDescription;
 import org.eclipse.wb.internal.core.model.description.resource.IDescriptionVersionsProvider;
+import org.eclipse.wb.internal.core.model.util.ScriptUtils;
 import org.eclipse.wb.internal.core.parser.AbstractParseFactory;
 import org.eclipse.wb.internal.core.parser.JavaInfoResolver;
 import org.eclipse.wb.internal.core.utils.IDisposable;
@@ -217,6 +218,9 @@ public final class EditorState {
     // clear Java internals
     dispose_PropertyEditorManager();
     dispose_UIManager();
+    if (m_editorLoader != null && !m_disposed) {
+      ScriptUtils.endSession();
+    }
     // dispose class loader
     ExecutionUtils.runIgnore(new RunnableEx() {
       public void run() throws Exception {
@@ -457,6 +461,7 @@ public final class EditorState {
     Assert.isNotNull(loader);
     m_editorLoader = loader;
     GlobalState.setClassLoader(loader);
+    ScriptUtils.beginSession();
   }
 
   ////////////////////////////////////////////////////////////////////////////
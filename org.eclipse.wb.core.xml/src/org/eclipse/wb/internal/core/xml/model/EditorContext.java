@@ -19,6 +19,7 @@ import org.eclipse.wb.internal.core.model.description.ToolkitDescription;
 import org.eclipse.wb.internal.core.model.description.helpers.DescriptionHelper;
 import org.eclipse.wb.internal.core.model.description.helpers.ILoadingContext;
 import org.eclipse.wb.internal.core.model.description.resource.IDescriptionVersionsProvider;
+import org.eclipse.wb.internal.core.model.util.ScriptUtils;
 import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
@@ -67,6 +68,7 @@ public abstract class EditorContext {
   private ILoadingContext m_loadingContext;
   private DocumentEditContext m_documentEditContext;
   private DocumentElement m_rootElement;
+  private boolean m_scriptSession;
 
   ////////////////////////////////////////////////////////////////////////////
   //
@@ -98,6 +100,8 @@ public abstract class EditorContext {
    */
   public void initialize() throws Exception {
     createClassLoader();
+    ScriptUtils.beginSession();
+    m_scriptSession = true;
     m_loadingContext = new XmlLoadingContext(this);
     m_documentEditContext = new DocumentEditContext(m_document) {
       @Override
@@ -126,6 +130,10 @@ public abstract class EditorContext {
    * Disposes resources allocated globally for this editor.
    */
   public void dispose() throws Exception {
+    if (m_scriptSession) {
+      m_scriptSession = false;
+      ScriptUtils.endSession();
+    }
     m_documentEditContext.disconnect();
   }
 
@@ -240,12 +240,12 @@ public class Figure {
       int size = children.size();
       //
       if (forward) {
-        for (int i = 0; i < size; i++) {
+        for (int i = 0; i < size && !visitor.isFinished(); i++) {
           Figure childFigure = children.get(i);
           childFigure.accept(visitor, forward);
         }
       } else {
-        for (int i = size - 1; i >= 0; i--) {
+        for (int i = size - 1; i >= 0 && !visitor.isFinished(); i--) {
           Figure childFigure = children.get(i);
           childFigure.accept(visitor, forward);
         }
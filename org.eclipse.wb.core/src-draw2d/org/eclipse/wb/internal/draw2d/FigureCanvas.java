@@ -163,7 +163,7 @@ public class FigureCanvas extends Canvas {
       if (m_bufferedImage == null) {
         paintGC.fillRectangle(x, y, width, height);
       } else {
-        paintGC.drawImage(m_bufferedImage, 0, 0);
+        flushBufferedImage(paintGC, x, y, width, height);
       }
       return;
     }
@@ -190,7 +190,29 @@ public class FigureCanvas extends Canvas {
       bufferedGC.dispose();
     }
     // flush painting
-    paintGC.drawImage(m_bufferedImage, 0, 0);
+    flushBufferedImage(paintGC, x, y, width, height);
+  }
+
+  /**
+   * Copies only damaged area of double buffered image, no need to copy whole canvas when only small
+   * part (for example feedback) was changed.
+   */
+  private void flushBufferedImage(GC paintGC, int x, int y, int width, int height) {
+    org.eclipse.swt.graphics.Rectangle area =
+        m_bufferedImage.getBounds().intersection(
+            new org.eclipse.swt.graphics.Rectangle(x, y, width, height));
+    if (!area.isEmpty()) {
+      paintGC.drawImage(
+          m_bufferedImage,
+          area.x,
+          area.y,
+          area.width,
+          area.height,
+          area.x,
+          area.y,
+          area.width,
+          area.height);
+    }
   }
 
   private void configureScrollingAndRedraw() {
@@ -31,4 +31,12 @@ public class FigureVisitor {
    */
   public void endVisit(Figure figure) {
   }
+
+  /**
+   * @return <code>true</code> if this visitor has done its work, so remaining children should not
+   *         be visited.
+   */
+  public boolean isFinished() {
+    return false;
+  }
 }
\ No newline at end of file
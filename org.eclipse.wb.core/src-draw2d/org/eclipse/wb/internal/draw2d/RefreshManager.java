@@ -66,7 +66,14 @@ public class RefreshManager implements Runnable {
    * rectangle <i>x, y, w, h</i>) to the update queue.
    */
   public synchronized void refreshRequest(int x, int y, int width, int height) {
-    m_dirtyRegion.union(x, y, width, height);
+    // empty dirty region is "nothing", so don't union with its location
+    if (width > 0 && height > 0) {
+      if (m_dirtyRegion.isEmpty()) {
+        m_dirtyRegion.setBounds(x, y, width, height);
+      } else {
+        m_dirtyRegion.union(x, y, width, height);
+      }
+    }
     //
     if (!m_requestWork) {
       Display.getCurrent().asyncExec(this);
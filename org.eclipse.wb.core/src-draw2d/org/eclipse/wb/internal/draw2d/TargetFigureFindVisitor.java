@@ -69,6 +69,14 @@ public class TargetFigureFindVisitor extends FigureVisitor {
     }
   }
 
+  /**
+   * Target {@link Figure} is found, so there are no reasons to visit other siblings.
+   */
+  @Override
+  public boolean isFinished() {
+    return m_result != null;
+  }
+
   /**
    * Returns <code>true</code> if given {@link Figure} can involve to search.<br>
    * By default return <code>true</code>.
@@ -29,6 +29,7 @@ import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.execution.RunnableObjectEx;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -49,7 +50,7 @@ public abstract class ObjectInfo implements IObjectInfo {
   //
   ////////////////////////////////////////////////////////////////////////////
   private ObjectInfo m_parent;
-  private final List<ObjectInfo> m_children = Lists.newLinkedList();
+  private final List<ObjectInfo> m_children = new ChildrenList();
 
   ////////////////////////////////////////////////////////////////////////////
   //
@@ -172,22 +173,17 @@ public abstract class ObjectInfo implements IObjectInfo {
   /**
    * Adds given <code>child</code> to the children list directly before <code>nextChild</code>.
    */
-  public final void addChild(final ObjectInfo child, ObjectInfo nextChild) throws Exception {
+  public final void addChild(ObjectInfo child, ObjectInfo nextChild) throws Exception {
     // pre-checks
     {
       Assert.isNotNull(child);
       Assert.isTrue(!m_children.contains(child));
       // don't allow add parent to its child
-      child.accept(new ObjectInfoVisitor() {
-        @Override
-        public void endVisit(ObjectInfo objectInfo) throws Exception {
-          Assert.isTrue(
-              objectInfo != ObjectInfo.this,
-              "<code>%s</code> is parent of <code>%s</code>, so first can not be added as child of second.",
-              child,
-              ObjectInfo.this);
-        }
-      });
+      Assert.isTrue(
+          !child.isItOrParentOf(this),
+          "<code>%s</code> is parent of <code>%s</code>, so first can not be added as child of second.",
+          child,
+          this);
     }
     // send "before" broadcast, may be "nextChild" will be changed
     {
@@ -219,7 +215,7 @@ public abstract class ObjectInfo implements IObjectInfo {
       getBroadcastObject().childMoveBefore(this, child, nextChild);
       // remove from old index
       int oldIndex = m_children.indexOf(child);
-      m_children.remove(child);
+      m_children.remove(oldIndex);
       // prepare target index
       int index;
       if (nextChild != null) {
@@ -707,4 +703,104 @@ public abstract class ObjectInfo implements IObjectInfo {
     }
     return arbitraries;
   }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Children list
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * {@link List} of children that keeps index of each child, so {@link #contains(Object)} and
+   * {@link #indexOf(Object)} are not linear. Index is updated by add/remove/set, only indexes after
+   * changed position are updated. Other structural changes (sort, clear, iterator) are detected using
+   * <code>modCount</code> and cause full rebuild on next access.
+   */
+  private static final class ChildrenList extends ArrayList<ObjectInfo> {
+    private static final long serialVersionUID = 0L;
+    private final Map<Object, Integer> m_indexes = Maps.newHashMap();
+    private int m_indexesModCount;
+
+    @Override
+    public boolean add(ObjectInfo child) {
+      add(size(), child);
+      return true;
+    }
+
+    @Override
+    public void add(int index, ObjectInfo child) {
+      boolean validIndexes = isValidIndexes();
+      super.add(index, child);
+      if (validIndexes) {
+        updateIndexes(index + 1);
+        m_indexes.put(child, index);
+        m_indexesModCount = modCount;
+      }
+    }
+
+    @Override
+    public ObjectInfo remove(int index) {
+      boolean validIndexes = isValidIndexes();
+      ObjectInfo child = super.remove(index);
+      if (validIndexes) {
+        m_indexes.remove(child);
+        updateIndexes(index);
+        m_indexesModCount = modCount;
+      }
+      return child;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      int index = indexOf(o);
+      if (index == -1) {
+        return false;
+      }
+      remove(index);
+      return true;
+    }
+
+    @Override
+    public ObjectInfo set(int index, ObjectInfo child) {
+      ObjectInfo oldChild = super.set(index, child);
+      if (isValidIndexes()) {
+        Integer oldIndex = m_indexes.get(oldChild);
+        if (oldIndex != null && oldIndex == index) {
+          m_indexes.remove(oldChild);
+        }
+        m_indexes.put(child, index);
+      }
+      return oldChild;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+      if (!isValidIndexes()) {
+        m_indexes.clear();
+        for (int i = size() - 1; i >= 0; i--) {
+          m_indexes.put(get(i), i);
+        }
+        m_indexesModCount = modCount;
+      }
+      Integer index = m_indexes.get(o);
+      return index != null ? index : -1;
+    }
+
+    /**
+     * Updates indexes of children starting from <code>fromIndex</code>.
+     */
+    private void updateIndexes(int fromIndex) {
+      for (int i = fromIndex; i < size(); i++) {
+        m_indexes.put(get(i), i);
+      }
+    }
+
+    private boolean isValidIndexes() {
+      return m_indexesModCount == modCount;
+    }
+  }
 }
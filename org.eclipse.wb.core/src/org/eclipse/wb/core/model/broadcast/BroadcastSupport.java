@@ -12,6 +12,7 @@ package org.eclipse.wb.core.model.broadcast;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.EnvironmentUtils;
@@ -21,10 +22,13 @@ import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+import org.apache.commons.lang.ArrayUtils;
+
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Sends broadcast event that something happens with given {@link ObjectInfo}. For example we can
@@ -39,7 +43,7 @@ public final class BroadcastSupport {
   /**
    * {@link Map} for "listener class" -> "listener implementations".
    */
-  private final Map<Class<?>, List<Object>> m_classToListeners = Maps.newHashMap();
+  private final Map<Class<?>, ClassListeners> m_classToListeners = Maps.newHashMap();
   /**
    * {@link Map} for "listener target" -> "listener implementations".
    */
@@ -55,7 +59,14 @@ public final class BroadcastSupport {
    */
   public void addListener(ObjectInfo target, Object listenerImpl) {
     Class<?> listenerClass = getListenerClass(listenerImpl);
-    addListener(getClassListeners(listenerClass), listenerImpl);
+    {
+      ClassListeners listeners = m_classToListeners.get(listenerClass);
+      if (listeners == null) {
+        listeners = new ClassListeners();
+        m_classToListeners.put(listenerClass, listeners);
+      }
+      listeners.add(listenerImpl);
+    }
     if (target != null) {
       addListener(getTargetListeners(target), listenerImpl);
     }
@@ -66,7 +77,12 @@ public final class BroadcastSupport {
    */
   public void removeListener(ObjectInfo target, Object listenerImpl) {
     Class<?> listenerClass = getListenerClass(listenerImpl);
-    getClassListeners(listenerClass).remove(listenerImpl);
+    {
+      ClassListeners listeners = m_classToListeners.get(listenerClass);
+      if (listeners != null) {
+        listeners.remove(listenerImpl);
+      }
+    }
     if (target != null) {
       getTargetListeners(target).remove(listenerImpl);
     }
@@ -134,16 +150,15 @@ public final class BroadcastSupport {
   }
 
   /**
-   * @return the {@link List} of listeners of given class. May return empty {@link List}, but not
-   *         <code>null</code>.
+   * @return the array of listeners of given class. May return empty array, but not
+   *         <code>null</code>. Returned array should not be modified.
    */
-  private List<Object> getClassListeners(Class<?> listenerClass) {
-    List<Object> listeners = m_classToListeners.get(listenerClass);
+  private Object[] getClassListeners(Class<?> listenerClass) {
+    ClassListeners listeners = m_classToListeners.get(listenerClass);
     if (listeners == null) {
-      listeners = Lists.newArrayList();
-      m_classToListeners.put(listenerClass, listeners);
+      return ArrayUtils.EMPTY_OBJECT_ARRAY;
     }
-    return listeners;
+    return listeners.toArray();
   }
 
   /**
@@ -202,8 +217,8 @@ public final class BroadcastSupport {
             java.lang.reflect.Method method,
             Object[] args,
             MethodProxy proxy) throws Throwable {
-          List<Object> listeners = getClassListeners(listenerClass);
-          for (Object listener : listeners.toArray()) {
+          Object[] listeners = getClassListeners(listenerClass);
+          for (Object listener : listeners) {
             try {
               method.invoke(listener, args);
             } catch (InvocationTargetException e) {
@@ -223,4 +238,40 @@ public final class BroadcastSupport {
     T casted_listenerMulticast = (T) listenerMulticast;
     return casted_listenerMulticast;
   }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // ClassListeners
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Listeners of single listener class, in order of adding.
+   * <p>
+   * Array for sending is created only on first sending after change, so adding many listeners, for
+   * example during parsing, does not copy array on each add. Array is never modified, so sending can
+   * iterate it even if listeners are added/removed during sending.
+   */
+  private static final class ClassListeners {
+    private final Set<Object> m_listeners = Sets.newLinkedHashSet();
+    private Object[] m_array;
+
+    public void add(Object listener) {
+      if (m_listeners.add(listener)) {
+        m_array = null;
+      }
+    }
+
+    public void remove(Object listener) {
+      if (m_listeners.remove(listener)) {
+        m_array = null;
+      }
+    }
+
+    public Object[] toArray() {
+      if (m_array == null) {
+        m_array = m_listeners.toArray();
+      }
+      return m_array;
+    }
+  }
 }
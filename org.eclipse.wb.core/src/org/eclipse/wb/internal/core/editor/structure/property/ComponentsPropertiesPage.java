@@ -73,6 +73,7 @@ public final class ComponentsPropertiesPage implements IPage {
   private PropertyTable m_propertyTable;
   private PropertyTable m_eventsTable;
   private ObjectInfo m_rootObject;
+  private ObjectInfo m_listenedRootObject;
   private final List<ObjectInfo> m_objects = Lists.newArrayList();
 
   ////////////////////////////////////////////////////////////////////////////
@@ -281,10 +282,9 @@ public final class ComponentsPropertiesPage implements IPage {
    */
   public void setSelection(ISelection selection) {
     // prepare new array of objects
+    List<ObjectInfo> objects = Lists.newArrayList();
     {
       IStructuredSelection structuredSelection = (IStructuredSelection) selection;
-      m_objects.clear();
-      //
       for (Iterator<?> I = structuredSelection.iterator(); I.hasNext();) {
         ObjectInfo objectInfo = (ObjectInfo) I.next();
         if (objectInfo instanceof ObjectReferenceInfo) {
@@ -293,34 +293,50 @@ public final class ComponentsPropertiesPage implements IPage {
         if (objectInfo.isDeleted()) {
           continue;
         }
-        m_objects.add(objectInfo);
+        objects.add(objectInfo);
       }
     }
+    // same objects, properties are already shown and updated on each refresh
+    if (m_rootObject != null && objects.equals(m_objects)) {
+      return;
+    }
+    m_objects.clear();
+    m_objects.addAll(objects);
     // add listener to new root, show new objects
     if (m_objects.isEmpty()) {
       m_rootObject = null;
       m_propertyTable.setInput(null);
     } else {
       m_rootObject = m_objects.get(0).getRoot();
-      m_rootObject.addBroadcastListener(new ObjectEventListener() {
-        @Override
-        public void refreshed() throws Exception {
-          refreshProperties();
-        }
-
-        @Override
-        public void presentationChanged() throws Exception {
-          refreshProperties();
-        }
-      });
-      deactivatePropertyEditor_whenDelete();
-      deactivatePropertyEditor_whenDispose();
-      deactivatePropertyEditor_whenExplicitlyRequested();
+      if (m_listenedRootObject != m_rootObject) {
+        m_listenedRootObject = m_rootObject;
+        refreshProperties_whenRefresh();
+        deactivatePropertyEditor_whenDelete();
+        deactivatePropertyEditor_whenDispose();
+        deactivatePropertyEditor_whenExplicitlyRequested();
+      }
     }
     // refresh properties
     refreshProperties();
   }
 
+  /**
+   * We should show new {@link Property}'s after each refresh, because they may be changed.
+   */
+  private void refreshProperties_whenRefresh() {
+    m_rootObject.addBroadcastListener(new ObjectEventListener() {
+      @Override
+      public void refreshed() throws Exception {
+        refreshProperties();
+      }
+
+      @Override
+      public void presentationChanged() throws Exception {
+        refreshProperties();
+      }
+    });
+  }
+
   /**
    * We should deactivate {@link PropertyEditor} and ignore changes when user deletes one of the
    * components that provide displayed properties.
@@ -11,12 +11,15 @@
 package org.eclipse.wb.internal.core.editor.structure.property;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 import org.eclipse.wb.internal.core.model.property.Property;
 import org.eclipse.wb.internal.core.model.property.PropertyManager;
+import org.eclipse.wb.internal.core.model.property.category.PropertyCategory;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper for computing intersection of {@link Property} arrays.
@@ -43,9 +46,21 @@ public final class PropertyListIntersector {
         m_intersection.add(new PropertyGroup(property));
       }
     } else {
+      // index new properties, first one wins
+      Map<PropertyKey, Property> keyToProperty = Maps.newHashMap();
+      for (Property property : properties) {
+        PropertyKey key = new PropertyKey(property);
+        if (!keyToProperty.containsKey(key)) {
+          keyToProperty.put(key, property);
+        }
+      }
+      // add matching properties into groups
       for (Iterator<PropertyGroup> I = m_intersection.iterator(); I.hasNext();) {
         PropertyGroup propertyGroup = I.next();
-        if (!propertyGroup.add(properties)) {
+        Property property = keyToProperty.get(propertyGroup.m_key);
+        if (property != null) {
+          propertyGroup.m_properties.add(property);
+        } else {
           I.remove();
         }
       }
@@ -76,6 +91,7 @@ public final class PropertyListIntersector {
    * The group of {@link Property}'s that match.
    */
   private static final class PropertyGroup {
+    private final PropertyKey m_key;
     private final List<Property> m_properties = Lists.newArrayList();
 
     ////////////////////////////////////////////////////////////////////////////
@@ -84,6 +100,7 @@ public final class PropertyListIntersector {
     //
     ////////////////////////////////////////////////////////////////////////////
     public PropertyGroup(Property property) {
+      m_key = new PropertyKey(property);
       m_properties.add(property);
     }
 
@@ -92,19 +109,6 @@ public final class PropertyListIntersector {
     // Access
     //
     ////////////////////////////////////////////////////////////////////////////
-    /**
-     * @return <code>true</code> if new matched {@link Property} from given array was added.
-     */
-    public boolean add(Property[] properties) {
-      for (Property property : properties) {
-        if (add(property)) {
-          return true;
-        }
-      }
-      // no match
-      return false;
-    }
-
     /**
      * @return the composite {@link Property} for this group.
      */
@@ -112,25 +116,49 @@ public final class PropertyListIntersector {
       Property properties[] = m_properties.toArray(new Property[m_properties.size()]);
       return properties[0].getComposite(properties);
     }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // PropertyKey
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * {@link Property}'s match if they have same {@link Class}, title and {@link PropertyCategory}.
+   */
+  private static final class PropertyKey {
+    private final Class<?> m_class;
+    private final String m_title;
+    private final PropertyCategory m_category;
 
     ////////////////////////////////////////////////////////////////////////////
     //
-    // Internal
+    // Constructor
     //
     ////////////////////////////////////////////////////////////////////////////
-    /**
-     * @return <code>true</code> if given {@link Property} matches and was added.
-     */
-    private boolean add(Property property) {
-      Property example = m_properties.get(0);
-      if (example.getClass() == property.getClass()
-          && example.getTitle().equals(property.getTitle())
-          && PropertyManager.getCategory(example) == PropertyManager.getCategory(property)) {
-        m_properties.add(property);
-        return true;
+    public PropertyKey(Property property) {
+      m_class = property.getClass();
+      m_title = property.getTitle();
+      m_category = PropertyManager.getCategory(property);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    //
+    // Object
+    //
+    ////////////////////////////////////////////////////////////////////////////
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof PropertyKey)) {
+        return false;
       }
-      // no match
-      return false;
+      PropertyKey key = (PropertyKey) obj;
+      return m_class == key.m_class && m_title.equals(key.m_title) && m_category == key.m_category;
+    }
+
+    @Override
+    public int hashCode() {
+      return m_class.hashCode() * 31 + m_title.hashCode();
     }
   }
 }
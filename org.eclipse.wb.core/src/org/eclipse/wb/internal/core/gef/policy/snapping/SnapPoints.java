@@ -43,6 +43,8 @@ public class SnapPoints {
   private SnapPoint m_verticalSnappedPoint;
   private final ISnapPointsProvider m_snapPoints;
   private final ISnapPointsListener m_listener;
+  private List<SnapPoint> m_horizontalPoints;
+  private List<SnapPoint> m_verticalPoints;
 
   ////////////////////////////////////////////////////////////////////////////
   //
@@ -274,9 +276,28 @@ public class SnapPoints {
   //
   ////////////////////////////////////////////////////////////////////////////
   /**
-   * Used to create snap points at whole.
+   * @return the snap points for given axis. They are created only once, because set of widgets is
+   *         fixed for this {@link SnapPoints} instance, and each {@link SnapPoint} calculates its
+   *         actual position during {@link SnapPoint#snap(List, Rectangle, int, int)}.
    */
   private List<SnapPoint> getSnapPoints(boolean isHorizontal) {
+    if (isHorizontal) {
+      if (m_horizontalPoints == null) {
+        m_horizontalPoints = createSnapPoints(true);
+      }
+      return m_horizontalPoints;
+    } else {
+      if (m_verticalPoints == null) {
+        m_verticalPoints = createSnapPoints(false);
+      }
+      return m_verticalPoints;
+    }
+  }
+
+  /**
+   * Used to create snap points at whole.
+   */
+  private List<SnapPoint> createSnapPoints(boolean isHorizontal) {
     List<SnapPoint> pts = Lists.newArrayList();
     for (IAbstractComponentInfo child : m_allWidgets) {
       pts.addAll(m_snapPoints.forComponent(child, isHorizontal));
@@ -1160,10 +1160,14 @@ public class PropertyTable extends Canvas implements ISelectionProvider {
     int y = clientArea.y - m_selection * m_rowHeight;
     gc.setForeground(COLOR_COMPLEX_LINE);
     for (int i = 0; i < m_properties.size(); i++) {
+      // lines go down, so lines of properties below client area are invisible
+      if (y > clientArea.height) {
+        break;
+      }
       PropertyInfo propertyInfo = m_properties.get(i);
       //
       if (propertyInfo.isExpanded()) {
-        int index = m_properties.indexOf(propertyInfo);
+        int index = i;
         // prepare index of last sub-property
         int index2 = index;
         for (; index2 < m_properties.size(); index2++) {
@@ -1224,10 +1228,11 @@ public class PropertyTable extends Canvas implements ISelectionProvider {
         {
           gc.setForeground(COLOR_PROPERTY_FG_TITLE);
           // check category
-          if (getCategory(property).isAdvanced()) {
+          PropertyCategory category = getCategory(property);
+          if (category.isAdvanced()) {
             gc.setForeground(COLOR_PROPERTY_FG_ADVANCED);
             gc.setFont(m_italicFont);
-          } else if (getCategory(property).isPreferred() || getCategory(property).isSystem()) {
+          } else if (category.isPreferred() || category.isSystem()) {
             gc.setFont(m_boldFont);
           }
           // check for active
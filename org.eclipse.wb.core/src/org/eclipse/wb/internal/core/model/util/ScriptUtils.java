@@ -84,7 +84,7 @@ public final class ScriptUtils {
       Object expression = compile(contextCache, script, contextClassLoader);
       return evaluate(expression, variables);
     } finally {
-      clearMemoryLeaks();
+      clearMemoryLeaks_noSession();
     }
   }
 
@@ -156,6 +156,9 @@ public final class ScriptUtils {
    * call <code>size()</code> periodically to force <code>expungeStaleEntries()</code>, or just
    * <code>clear()</code> after each use.
    * <p>
+   * However these caches are also used by MVEL optimizer, so while there are editor sessions, we
+   * don't clear them after each evaluation, but only when last session ends.
+   * <p>
    * MVEL uses {@link ThreadLocal}, but sometimes "forgets" to clear it.
    * <p>
    * http://jira.codehaus.org/browse/MVEL-149
@@ -186,6 +189,43 @@ public final class ScriptUtils {
     });
   }
 
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Sessions
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  private static int m_sessionCount;
+
+  /**
+   * Informs that editor session, which evaluates scripts using its {@link ClassLoader}, is started.
+   * MVEL caches are global, so they are kept while there is at least one session.
+   */
+  public static synchronized void beginSession() {
+    m_sessionCount++;
+  }
+
+  /**
+   * Informs that session started by {@link #beginSession()} is ended. If this was last session,
+   * clears MVEL caches, so they don't keep classes of disposed {@link ClassLoader}'s.
+   */
+  public static synchronized void endSession() {
+    if (m_sessionCount > 0) {
+      m_sessionCount--;
+      if (m_sessionCount == 0) {
+        clearMemoryLeaks();
+      }
+    }
+  }
+
+  /**
+   * Clears MVEL caches, if there are no sessions, so nobody will reuse them.
+   */
+  private static synchronized void clearMemoryLeaks_noSession() {
+    if (m_sessionCount == 0) {
+      clearMemoryLeaks();
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // Compilation
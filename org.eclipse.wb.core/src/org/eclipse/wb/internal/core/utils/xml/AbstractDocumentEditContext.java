@@ -590,6 +590,12 @@ public abstract class AbstractDocumentEditContext {
     if (difference != 0) {
       final int oldEnd = start + oldLength;
       m_root.accept(new DocumentModelVisitor() {
+        @Override
+        public boolean visit(DocumentElement element) {
+          // element and its attributes/children are before changed region, so no change
+          return element.getOffset() + element.getLength() >= start;
+        }
+
         @Override
         public void endVisit(DocumentElement element) {
           Position position = updatePosition(element.getOffset(), element.getLength());
@@ -14,7 +14,6 @@ import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 import java.util.TreeMap;
 
 /**
@@ -57,13 +56,13 @@ public final class QParser {
   //
   ////////////////////////////////////////////////////////////////////////////
   public static void parse(Reader reader, QHandler handler) throws Exception {
-    Stack<Integer> st = new Stack<Integer>();
+    ModeStack st = new ModeStack();
     int depth = 0;
     int mode = PRE;
     int quotec = '"';
     depth = 0;
-    StringBuffer sb = new StringBuffer();
-    StringBuffer etag = new StringBuffer();
+    StringBuilder sb = new StringBuilder();
+    StringBuilder etag = new StringBuilder();
     String tagName = null;
     String lvalue = null;
     String rvalue = null;
@@ -76,12 +75,19 @@ public final class QParser {
     //
     int offset = 0;
     int startTagOffset = 0;
+    char[] buffer = new char[4096];
+    int bufferLength = 0;
+    int bufferIndex = 0;
     while (true) {
-      int c = reader.read();
+      if (bufferIndex == bufferLength) {
+        bufferLength = reader.read(buffer);
+        bufferIndex = 0;
+      }
       offset++;
-      if (c == -1) {
+      if (bufferLength == -1) {
         break;
       }
+      int c = buffer[bufferIndex++];
       // use "\r", "\n" or "\r\n" as to move to next line
       if (c == '\n' && eol) {
         eol = false;
@@ -121,7 +127,7 @@ public final class QParser {
         // we are processing a closing tag: e.g. </foo>
       } else if (mode == CLOSE_TAG) {
         if (c == '>') {
-          mode = popMode(st);
+          mode = st.pop();
           tagName = sb.toString();
           sb.setLength(0);
           depth--;
@@ -134,20 +140,20 @@ public final class QParser {
         }
         // we are processing CDATA
       } else if (mode == CDATA) {
-        if (c == '>' && sb.toString().endsWith("]]")) {
+        if (c == '>' && endsWith(sb, ']')) {
           sb.setLength(sb.length() - 2);
           handler.text(sb.toString(), true);
           sb.setLength(0);
-          mode = popMode(st);
+          mode = st.pop();
         } else {
           sb.append((char) c);
         }
         // we are processing a comment.  We are inside
         // the <!-- .... --> looking for the -->.
       } else if (mode == COMMENT) {
-        if (c == '>' && sb.toString().endsWith("--")) {
+        if (c == '>' && endsWith(sb, '-')) {
           sb.setLength(0);
-          mode = popMode(st);
+          mode = st.pop();
         } else {
           sb.append((char) c);
         }
@@ -163,7 +169,7 @@ public final class QParser {
         // or one of these <!DOCTYPE ... >
       } else if (mode == DOCTYPE) {
         if (c == '>') {
-          mode = popMode(st);
+          mode = st.pop();
           if (mode == TEXT) {
             mode = PRE;
           }
@@ -172,7 +178,7 @@ public final class QParser {
         // are wondering what we are looking at
         // <foo>, </foo>, <!-- ... --->, etc.
       } else if (mode == START_TAG) {
-        mode = popMode(st);
+        mode = st.pop();
         if (c == '/') {
           st.push(mode);
           mode = CLOSE_TAG;
@@ -189,7 +195,7 @@ public final class QParser {
         // we are processing an entity, e.g. &lt;, &#187;, etc.
       } else if (mode == ENTITY) {
         if (c == ';') {
-          mode = popMode(st);
+          mode = st.pop();
           String cent = etag.toString();
           etag.setLength(0);
           if (cent.equals("lt")) {
@@ -237,7 +243,7 @@ public final class QParser {
         attrs = new TreeMap<String, String>();
         attrList = new ArrayList<QAttribute>();
         tagName = null;
-        mode = popMode(st);
+        mode = st.pop();
         // we are processing something
         // like this <foo ... >.  It could
         // still be a <!-- ... --> or something.
@@ -258,15 +264,15 @@ public final class QParser {
           tagName = null;
           attrs = new TreeMap<String, String>();
           attrList = new ArrayList<QAttribute>();
-          mode = popMode(st);
+          mode = st.pop();
         } else if (c == '/') {
           mode = SINGLE_TAG;
-        } else if (c == '-' && sb.toString().equals("!-")) {
+        } else if (c == '-' && equals(sb, "!-")) {
           mode = COMMENT;
-        } else if (c == '[' && sb.toString().equals("![CDATA")) {
+        } else if (c == '[' && equals(sb, "![CDATA")) {
           mode = CDATA;
           sb.setLength(0);
-        } else if (c == 'E' && sb.toString().equals("!DOCTYP")) {
+        } else if (c == 'E' && equals(sb, "!DOCTYP")) {
           sb.setLength(0);
           mode = DOCTYPE;
         } else if (Character.isWhitespace((char) c)) {
@@ -333,7 +339,7 @@ public final class QParser {
         }
       } else if (mode == IN_TAG) {
         if (c == '>') {
-          mode = popMode(st);
+          mode = st.pop();
           handler.startElement(
               startTagOffset,
               offset - startTagOffset,
@@ -369,13 +375,27 @@ public final class QParser {
   //
   ////////////////////////////////////////////////////////////////////////////
   /**
-   * @return the state from given {@link Stack}.
+   * @return <code>true</code> if given {@link StringBuilder} ends with two given characters.
+   */
+  private static boolean endsWith(StringBuilder sb, char c) {
+    int length = sb.length();
+    return length >= 2 && sb.charAt(length - 1) == c && sb.charAt(length - 2) == c;
+  }
+
+  /**
+   * @return <code>true</code> if given {@link StringBuilder} has same characters as {@link String}.
    */
-  private static int popMode(Stack<Integer> stack) {
-    if (stack.empty()) {
-      return PRE;
+  private static boolean equals(StringBuilder sb, String s) {
+    int length = s.length();
+    if (sb.length() != length) {
+      return false;
     }
-    return stack.pop();
+    for (int i = 0; i < length; i++) {
+      if (sb.charAt(i) != s.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -384,4 +404,31 @@ public final class QParser {
   private static void throwException(String message, int line, int col) throws Exception {
     throw new QException(message + " near line " + line + ", column " + col);
   }
+
+  /**
+   * Stack of parser states, without boxing and synchronization of {@link java.util.Stack}.
+   */
+  private static final class ModeStack {
+    private int[] m_modes = new int[16];
+    private int m_size;
+
+    public void push(int mode) {
+      if (m_size == m_modes.length) {
+        int[] newModes = new int[m_size * 2];
+        System.arraycopy(m_modes, 0, newModes, 0, m_size);
+        m_modes = newModes;
+      }
+      m_modes[m_size++] = mode;
+    }
+
+    /**
+     * @return the last pushed state, or {@link #PRE} if stack is empty.
+     */
+    public int pop() {
+      if (m_size == 0) {
+        return PRE;
+      }
+      return m_modes[--m_size];
+    }
+  }
 }
\ No newline at end of file
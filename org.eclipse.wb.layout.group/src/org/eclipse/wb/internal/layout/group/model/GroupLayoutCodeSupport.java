@@ -19,6 +19,7 @@ import org.eclipse.wb.core.model.broadcast.JavaEventListener;
 import org.eclipse.wb.internal.core.model.JavaInfoEvaluationHelper;
 import org.eclipse.wb.internal.core.parser.JavaInfoResolver;
 import org.eclipse.wb.internal.core.utils.IAdaptable;
+import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
 import org.eclipse.wb.internal.core.utils.ast.DomGenerics;
 import org.eclipse.wb.internal.core.utils.ast.NodeTarget;
 import org.eclipse.wb.internal.core.utils.ast.StatementTarget;
@@ -34,6 +35,8 @@ import org.netbeans.modules.form.layoutdesign.LayoutConstants;
 import org.netbeans.modules.form.layoutdesign.LayoutInterval;
 import org.netbeans.modules.form.layoutdesign.LayoutModel;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -64,6 +67,8 @@ public abstract class GroupLayoutCodeSupport implements LayoutConstants {
   protected String SIGNATURE_LINK_SIZE_AXIS;
   //
   protected IAdaptable m_layoutAdaptable;
+  private final List<MethodInvocation> m_savedInvocations = Lists.newArrayList();
+  private final List<String> m_savedCode = Lists.newArrayList();
 
   ////////////////////////////////////////////////////////////////////////////
   //
@@ -221,30 +226,66 @@ public abstract class GroupLayoutCodeSupport implements LayoutConstants {
   //
   ////////////////////////////////////////////////////////////////////////////
   public void saveLayout(List<AbstractComponentInfo> components) throws Exception {
-    // remove all previous layout code
     JavaInfo layoutJavaInfo = getJavaInfo();
-    layoutJavaInfo.removeMethodInvocations(SIGNATURE_SET_HORIZONTAL_GROUP);
-    layoutJavaInfo.removeMethodInvocations(SIGNATURE_SET_VERTICAL_GROUP);
-    layoutJavaInfo.removeMethodInvocations(SIGNATURE_LINK_SIZE);
-    layoutJavaInfo.removeMethodInvocations(SIGNATURE_LINK_SIZE_AXIS);
-    // add generated code
-    // prepare
+    // prepare generated code
     String layoutCode = prepareLayoutCode(components);
-    // fill layout
-    String horizontalGroupCode = extractGroupCode(layoutCode, ID_SET_HORIZONTAL_GROUP);
-    String verticalGroupCode = extractGroupCode(layoutCode, ID_SET_VERTICAL_GROUP);
+    List<String> signatures = Lists.newArrayList();
+    List<String> arguments = Lists.newArrayList();
     {
-      layoutJavaInfo.addMethodInvocation(SIGNATURE_SET_HORIZONTAL_GROUP, horizontalGroupCode);
-      layoutJavaInfo.addMethodInvocation(SIGNATURE_SET_VERTICAL_GROUP, verticalGroupCode);
+      signatures.add(SIGNATURE_SET_HORIZONTAL_GROUP);
+      arguments.add(extractGroupCode(layoutCode, ID_SET_HORIZONTAL_GROUP));
+      signatures.add(SIGNATURE_SET_VERTICAL_GROUP);
+      arguments.add(extractGroupCode(layoutCode, ID_SET_VERTICAL_GROUP));
     }
     // linked size components
-    List<String> linkSizesCode = extractLinkSizeCode(layoutCode);
-    for (String linkSizeCode : linkSizesCode) {
-      layoutJavaInfo.addMethodInvocation(SIGNATURE_LINK_SIZE_AXIS, linkSizeCode);
+    for (String linkSizeCode : extractLinkSizeCode(layoutCode)) {
+      signatures.add(SIGNATURE_LINK_SIZE_AXIS);
+      arguments.add(linkSizeCode);
+    }
+    // keep leading invocations added by previous save, if their code is not changed
+    List<MethodInvocation> invocations = getLayoutInvocations(layoutJavaInfo);
+    int keepCount = 0;
+    while (keepCount < invocations.size()
+        && keepCount < m_savedInvocations.size()
+        && keepCount < arguments.size()
+        && invocations.get(keepCount) == m_savedInvocations.get(keepCount)
+        && m_savedCode.get(keepCount).equals(
+            signatures.get(keepCount) + arguments.get(keepCount))) {
+      keepCount++;
+    }
+    m_savedInvocations.subList(keepCount, m_savedInvocations.size()).clear();
+    m_savedCode.subList(keepCount, m_savedCode.size()).clear();
+    // remove other previous layout code
+    for (MethodInvocation invocation : invocations.subList(keepCount, invocations.size())) {
+      layoutJavaInfo.getEditor().removeEnclosingStatement(invocation);
+    }
+    // add generated code
+    for (int i = keepCount; i < arguments.size(); i++) {
+      String signature = signatures.get(i);
+      String code = arguments.get(i);
+      m_savedInvocations.add(layoutJavaInfo.addMethodInvocation(signature, code));
+      m_savedCode.add(signature + code);
     }
     // TODO: add 'pack()' method invocation if needed
   }
 
+  /**
+   * @return the {@link MethodInvocation}s with layout code, in order of their position in source.
+   */
+  private List<MethodInvocation> getLayoutInvocations(JavaInfo layoutJavaInfo) {
+    List<MethodInvocation> invocations = Lists.newArrayList();
+    invocations.addAll(layoutJavaInfo.getMethodInvocations(SIGNATURE_SET_HORIZONTAL_GROUP));
+    invocations.addAll(layoutJavaInfo.getMethodInvocations(SIGNATURE_SET_VERTICAL_GROUP));
+    invocations.addAll(layoutJavaInfo.getMethodInvocations(SIGNATURE_LINK_SIZE));
+    invocations.addAll(layoutJavaInfo.getMethodInvocations(SIGNATURE_LINK_SIZE_AXIS));
+    Collections.sort(invocations, new Comparator<MethodInvocation>() {
+      public int compare(MethodInvocation o1, MethodInvocation o2) {
+        return AstNodeUtils.getSourceBegin(o1) - AstNodeUtils.getSourceBegin(o2);
+      }
+    });
+    return invocations;
+  }
+
   private String extractGroupCode(String layoutCode, String invocationString) {
     int beginIndex = layoutCode.indexOf(invocationString);
     if (beginIndex == -1) {
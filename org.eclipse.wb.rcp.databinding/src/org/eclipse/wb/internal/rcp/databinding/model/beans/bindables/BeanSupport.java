@@ -38,12 +38,9 @@ import org.eclipse.wb.internal.rcp.databinding.ui.providers.TypeImageProvider;
 
 import org.eclipse.swt.graphics.Image;
 
-import org.apache.commons.lang.ClassUtils;
-
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -353,55 +350,7 @@ public final class BeanSupport {
    */
   public static List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass)
       throws Exception {
-    List<PropertyDescriptor> descriptors = Lists.newArrayList();
-    // handle interfaces
-    if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
-      List<Class<?>> interfaces = CoreUtils.cast(ClassUtils.getAllInterfaces(beanClass));
-      for (Class<?> i : interfaces) {
-        BeanInfo beanInfo = Introspector.getBeanInfo(i);
-        addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
-      }
-    }
-    // handle bean
-    BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-    addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
-    //
-    return descriptors;
-  }
-
-  private static void addDescriptors(List<PropertyDescriptor> descriptors,
-      PropertyDescriptor[] newDescriptors) {
-    int count = descriptors.size();
-    if (count > 0) {
-      // filter equal properties
-      for (int i = 0; i < newDescriptors.length; i++) {
-        PropertyDescriptor newDescriptor = newDescriptors[i];
-        if (newDescriptor.getPropertyType() == null) {
-          continue;
-        }
-        //
-        String name = newDescriptor.getName();
-        boolean addDescriptor = true;
-        //
-        for (int j = 0; j < count; j++) {
-          PropertyDescriptor descriptor = descriptors.get(j);
-          if (name.equals(descriptor.getName())) {
-            addDescriptor = false;
-            break;
-          }
-        }
-        if (addDescriptor) {
-          descriptors.add(newDescriptor);
-        }
-      }
-    } else {
-      // add all properties
-      for (PropertyDescriptor descriptor : newDescriptors) {
-        if (descriptor.getPropertyType() != null) {
-          descriptors.add(descriptor);
-        }
-      }
-    }
+    return CoreUtils.getPropertyDescriptors(beanClass);
   }
 
   ////////////////////////////////////////////////////////////////////////////
@@ -16,7 +16,7 @@ import org.eclipse.wb.internal.core.utils.asm.ToBytesClassAdapter;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
-import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
+import org.eclipse.wb.internal.core.utils.reflect.ICacheableByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.IClassLoaderInitializer;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
@@ -134,10 +134,14 @@ public final class BindingContextClassLoaderInitializer implements IClassLoaderI
     ProjectClassLoader projectClassLoader =
         (ProjectClassLoader) classLoaders.get(classLoaders.size() - 1);
     // add bytecode processor
-    projectClassLoader.add(new IByteCodeProcessor() {
+    projectClassLoader.add(new ICacheableByteCodeProcessor() {
       public void initialize(ProjectClassLoader classLoader) {
       }
 
+      public String getCacheKey() {
+        return "";
+      }
+
       public byte[] process(String className, byte[] bytes) {
         if ("org.eclipse.core.databinding.beans.BeansObservables".equals(className)) {
           return transformBindings(bytes);
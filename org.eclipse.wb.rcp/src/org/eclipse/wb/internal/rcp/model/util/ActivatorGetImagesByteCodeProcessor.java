@@ -11,7 +11,7 @@
 package org.eclipse.wb.internal.rcp.model.util;
 
 import org.eclipse.wb.internal.core.utils.asm.ToBytesClassAdapter;
-import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
+import org.eclipse.wb.internal.core.utils.reflect.ICacheableByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.swt.model.property.editor.image.plugin.WorkspacePluginInfo;
 
@@ -35,7 +35,7 @@ import java.io.InputStream;
  * @author lobas_av
  * @coverage rcp.util
  */
-public final class ActivatorGetImagesByteCodeProcessor implements IByteCodeProcessor {
+public final class ActivatorGetImagesByteCodeProcessor implements ICacheableByteCodeProcessor {
   private String m_activatorClassName;
   private String m_activatorProjectPath;
 
@@ -56,6 +56,10 @@ public final class ActivatorGetImagesByteCodeProcessor implements IByteCodeProce
     return bytes;
   }
 
+  public String getCacheKey() {
+    return m_activatorClassName + "|" + m_activatorProjectPath;
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // Handle
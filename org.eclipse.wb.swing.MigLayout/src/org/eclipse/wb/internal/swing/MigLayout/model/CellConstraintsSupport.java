@@ -459,7 +459,9 @@ public final class CellConstraintsSupport {
       String constraintsSource = StringConverter.INSTANCE.toJavaSource(null, constraintsString);
       if (signature.equals("add(java.awt.Component,java.lang.Object)")) {
         Expression constraintsExpression = (Expression) invocation.arguments().get(1);
-        m_layout.getEditor().replaceExpression(constraintsExpression, constraintsSource);
+        if (!m_layout.getEditor().getSource(constraintsExpression).equals(constraintsSource)) {
+          m_layout.getEditor().replaceExpression(constraintsExpression, constraintsSource);
+        }
       } else if (signature.equals("add(java.awt.Component)")) {
         m_layout.getEditor().addInvocationArgument(invocation, 1, constraintsSource);
       }
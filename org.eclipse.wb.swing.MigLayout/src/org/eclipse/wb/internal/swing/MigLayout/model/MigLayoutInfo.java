@@ -478,10 +478,18 @@ public final class MigLayoutInfo extends LayoutInfo implements IPreferenceConsta
     Assert.instanceOf(MigLayoutInfo.class, container.getLayout());
     //
     MigLayoutInfo layout = (MigLayoutInfo) container.getLayout();
-    CellConstraintsSupport support = layout.m_constraints.get(component);
+    return layout.getChildConstraints(component);
+  }
+
+  /**
+   * @return the {@link CellConstraintsSupport} for given {@link ComponentInfo} child, without
+   *         checks, so can be used in loops over all children.
+   */
+  private CellConstraintsSupport getChildConstraints(ComponentInfo component) {
+    CellConstraintsSupport support = m_constraints.get(component);
     if (support == null) {
-      support = new CellConstraintsSupport(layout, component);
-      layout.m_constraints.put(component, support);
+      support = new CellConstraintsSupport(this, component);
+      m_constraints.put(component, support);
     }
     return support;
   }
@@ -844,7 +852,7 @@ public final class MigLayoutInfo extends LayoutInfo implements IPreferenceConsta
    */
   private void makeExplicitCell() {
     for (ComponentInfo component : getContainer().getChildrenComponents()) {
-      CellConstraintsSupport constraints = getConstraints(component);
+      CellConstraintsSupport constraints = getChildConstraints(component);
       constraints.makeExplicitCell();
     }
   }
@@ -854,7 +862,7 @@ public final class MigLayoutInfo extends LayoutInfo implements IPreferenceConsta
    */
   private void writeAllConstraints() throws Exception {
     for (ComponentInfo component : getContainer().getChildrenComponents()) {
-      CellConstraintsSupport constraints = getConstraints(component);
+      CellConstraintsSupport constraints = getChildConstraints(component);
       constraints.write();
     }
   }
@@ -869,7 +877,7 @@ public final class MigLayoutInfo extends LayoutInfo implements IPreferenceConsta
   private ComponentInfo getReference(int column, int row, ComponentInfo exclude) throws Exception {
     for (ComponentInfo component : getContainer().getChildrenComponents()) {
       if (component != exclude) {
-        CellConstraintsSupport constraints = getConstraints(component);
+        CellConstraintsSupport constraints = getChildConstraints(component);
         if (constraints.getY() > row || constraints.getY() == row && constraints.getX() >= column) {
           return component;
         }
@@ -1135,7 +1143,7 @@ public final class MigLayoutInfo extends LayoutInfo implements IPreferenceConsta
    */
   private void visitAllComponents(MigComponentVisitor visitor) throws Exception {
     for (ComponentInfo component : getContainer().getChildrenComponents()) {
-      CellConstraintsSupport cell = getConstraints(component);
+      CellConstraintsSupport cell = getChildConstraints(component);
       visitor.visit(component, cell);
     }
   }
@@ -1196,7 +1204,7 @@ public final class MigLayoutInfo extends LayoutInfo implements IPreferenceConsta
    */
   private ComponentInfo getComponentAt(int x, int y) {
     for (ComponentInfo component : getContainer().getChildrenComponents()) {
-      CellConstraintsSupport constraints = getConstraints(component);
+      CellConstraintsSupport constraints = getChildConstraints(component);
       if (constraints.getX() == x && constraints.getY() == y) {
         return component;
       }
@@ -11,6 +11,7 @@
 package org.eclipse.wb.internal.swing.utils;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 import org.eclipse.wb.draw2d.IColorConstants;
 import org.eclipse.wb.draw2d.geometry.Rectangle;
@@ -29,6 +30,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -44,9 +46,13 @@ import java.awt.image.BufferedImage;
 import java.awt.image.ColorModel;
 import java.awt.image.ImageConsumer;
 import java.awt.image.ImageProducer;
+import java.awt.image.WritableRaster;
 import java.util.Hashtable;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import javax.swing.JComponent;
 import javax.swing.JFrame;
@@ -529,6 +535,11 @@ public class SwingImageUtils {
     return SwingUtils.runObjectLaterAndWait(new RunnableObjectEx<Image>() {
       public Image runObject() throws Exception {
         BufferedImage bufferedImage = (BufferedImage) image;
+        // fast path: copy rows of RGB raster
+        if (bufferedImage.getType() == BufferedImage.TYPE_INT_RGB) {
+          return new Image(null, convertImageData_INT_RGB(bufferedImage));
+        }
+        // generic
         int imageWidth = bufferedImage.getWidth();
         int imageHeight = bufferedImage.getHeight();
         Image swtImage = new Image(null, imageWidth, imageHeight);
@@ -547,6 +558,86 @@ public class SwingImageUtils {
     });
   }
 
+  /**
+   * Converts AWT images into SWT ones. Pixels of {@link BufferedImage#TYPE_INT_RGB} images are
+   * converted in parallel, but SWT {@link Image}'s are created in the caller thread. If conversion
+   * of any image fails, then already created SWT {@link Image}'s are disposed.
+   *
+   * @return the {@link Map} with SWT {@link Image}'s for same keys.
+   */
+  public static <K> Map<K, Image> convertImages_AWT_to_SWT(Map<K, java.awt.Image> images)
+      throws Exception {
+    Map<K, Image> swtImages = Maps.newHashMap();
+    convertImages_AWT_to_SWT(images, swtImages);
+    return swtImages;
+  }
+
+  /**
+   * Converts AWT images into SWT ones, puts them into given {@link Map}. Not
+   * {@link BufferedImage#TYPE_INT_RGB} images are converted first, then
+   * {@link BufferedImage#TYPE_INT_RGB} ones, in order of given {@link Map}. On failure all
+   * {@link Image}'s put into {@link Map} are disposed.
+   * <p>
+   * We use common {@link ForkJoinPool}, because conversion tasks only copy pixels of
+   * {@link BufferedImage}, they don't wait for locks, AWT or SWT. So, they can not block the pool
+   * for long. If pool is busy with other tasks, then caller thread may run our queued task itself,
+   * while waiting for its {@link Future}.
+   */
+  private static <K> void convertImages_AWT_to_SWT(Map<K, java.awt.Image> images,
+      Map<K, Image> swtImages) throws Exception {
+    Map<K, Future<ImageData>> futures = Maps.newLinkedHashMap();
+    boolean success = false;
+    try {
+      // schedule conversion of pixels
+      for (Map.Entry<K, java.awt.Image> entry : images.entrySet()) {
+        java.awt.Image image = entry.getValue();
+        if (image instanceof BufferedImage
+            && ((BufferedImage) image).getType() == BufferedImage.TYPE_INT_RGB) {
+          final BufferedImage bufferedImage = (BufferedImage) image;
+          futures.put(entry.getKey(), ForkJoinPool.commonPool().submit(new Callable<ImageData>() {
+            public ImageData call() throws Exception {
+              return convertImageData_INT_RGB(bufferedImage);
+            }
+          }));
+        } else if (image != null) {
+          swtImages.put(entry.getKey(), convertImage_AWT_to_SWT(image));
+        }
+      }
+      // create SWT images
+      for (Map.Entry<K, Future<ImageData>> entry : futures.entrySet()) {
+        swtImages.put(entry.getKey(), new Image(null, entry.getValue().get()));
+      }
+      success = true;
+    } finally {
+      if (!success) {
+        for (Future<ImageData> future : futures.values()) {
+          future.cancel(false);
+        }
+        for (Image swtImage : swtImages.values()) {
+          swtImage.dispose();
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the {@link ImageData} with pixels of given {@link BufferedImage#TYPE_INT_RGB} image.
+   *         Rows of raster are copied in bulk, without asking {@link ColorModel} for each pixel.
+   */
+  private static ImageData convertImageData_INT_RGB(BufferedImage image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    ImageData imageData =
+        new ImageData(width, height, 24, new PaletteData(0xFF0000, 0x00FF00, 0x0000FF));
+    WritableRaster raster = image.getRaster();
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      raster.getDataElements(0, y, width, 1, row);
+      imageData.setPixels(0, y, width, row, 0);
+    }
+    return imageData;
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // Utils
@@ -30,7 +30,6 @@ import java.awt.Container;
 import java.awt.Point;
 import java.awt.Window;
 import java.awt.image.BufferedImage;
-import java.util.Collections;
 import java.util.Map;
 
 import javax.swing.JDesktopPane;
@@ -161,13 +160,8 @@ public final class SwingScreenshotMaker {
     // do traverse
     SwingImageUtils.makeShotsHierarchy(m_component, m_componentImages, m_component);
     // convert images
-    final Map<Component, Image> convertedImages = Maps.newHashMap();
-    for (Component keyComponent : Collections.unmodifiableMap(m_componentImages).keySet()) {
-      java.awt.Image image2 = m_componentImages.get(keyComponent);
-      if (image2 != null) {
-        convertedImages.put(keyComponent, SwingImageUtils.convertImage_AWT_to_SWT(image2));
-      }
-    }
+    final Map<Component, Image> convertedImages =
+        SwingImageUtils.convertImages_AWT_to_SWT(m_componentImages);
     // draw decorations on OS X
     if (EnvironmentUtils.IS_MAC && m_window == m_component) {
       Image oldImage = convertedImages.get(m_component);
@@ -904,26 +904,38 @@ public class GridLayoutInfo extends LayoutInfo
       return;
     }
     ControlInfo[][] grid = getControlsGrid();
+    Set<Point> implicitCells = getImplicitControlsLocations();
+    // cells are visited in order, so reference for next cell is same or after previous one
+    List<ControlInfo> controls = getControls();
+    int referenceIndex = 0;
     for (int row = 0; row < grid.length; row++) {
       for (int column = 0; column < grid[row].length; column++) {
-        if (isEmptyCell(grid, row, column)) {
-          addFiller(column, row);
+        if (grid[row][column] == null && !implicitCells.contains(new Point(column, row))) {
+          while (referenceIndex < controls.size()
+              && !isReferenceControl(controls.get(referenceIndex), row, column)) {
+            referenceIndex++;
+          }
+          ControlInfo reference =
+              referenceIndex < controls.size() ? controls.get(referenceIndex) : null;
+          addFiller(column, row, reference);
         }
       }
     }
   }
 
-  private boolean isEmptyCell(ControlInfo[][] grid, int row, int column) {
-    {
-      Object layoutObject = getObject();
-      for (Object control : m_controlsImplicit) {
-        Point point = GridLayoutSupport.getXY(layoutObject, control);
-        if (point != null && point.x == column && point.y == row) {
-          return false;
-        }
+  /**
+   * @return the top-left cells of {@link #m_controlsImplicit}.
+   */
+  private Set<Point> getImplicitControlsLocations() {
+    Set<Point> locations = Sets.newHashSet();
+    Object layoutObject = getObject();
+    for (Object control : m_controlsImplicit) {
+      Point point = GridLayoutSupport.getXY(layoutObject, control);
+      if (point != null) {
+        locations.add(point);
       }
     }
-    return grid[row][column] == null;
+    return locations;
   }
 
   /**
@@ -935,21 +947,33 @@ public class GridLayoutInfo extends LayoutInfo
   private ControlInfo getReferenceControl(int row, int column, ControlInfo exclude)
       throws Exception {
     for (ControlInfo control : getControls()) {
-      if (control != exclude) {
-        GridDataInfo gridData = getGridData(control);
-        if (gridData.y > row || gridData.y == row && gridData.x >= column) {
-          return control;
-        }
+      if (control != exclude && isReferenceControl(control, row, column)) {
+        return control;
       }
     }
     // no reference
     return null;
   }
 
+  /**
+   * @return <code>true</code> if given {@link ControlInfo} is located in specified cell or after it.
+   */
+  private static boolean isReferenceControl(ControlInfo control, int row, int column) {
+    GridDataInfo gridData = getGridData(control);
+    return gridData.y > row || gridData.y == row && gridData.x >= column;
+  }
+
   /**
    * Adds filler {@link ControlInfo} into given cell.
    */
   private void addFiller(int column, int row) throws Exception {
+    addFiller(column, row, getReferenceControl(row, column, null));
+  }
+
+  /**
+   * Adds filler {@link ControlInfo} into given cell, before given reference {@link ControlInfo}.
+   */
+  private void addFiller(int column, int row, ControlInfo reference) throws Exception {
     // prepare creation support
     ConstructorCreationSupport creationSupport = new ConstructorCreationSupport(null, false);
     // prepare filler
@@ -958,7 +982,6 @@ public class GridLayoutInfo extends LayoutInfo
         LabelSupport.getLabelClass(),
         creationSupport);
     // add filler
-    ControlInfo reference = getReferenceControl(row, column, null);
     JavaInfoUtils.add(
         filler,
         new EmptyPureVariableSupport(filler),
@@ -20,6 +20,7 @@ import org.eclipse.wb.core.model.broadcast.ObjectInfoChildAddAfter;
 import org.eclipse.wb.core.model.broadcast.ObjectInfoChildAddBefore;
 import org.eclipse.wb.internal.core.model.ObjectInfoVisitor;
 import org.eclipse.wb.internal.core.model.property.Property;
+import org.eclipse.wb.internal.core.utils.check.AssertionFailedException;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
 import org.eclipse.wb.tests.designer.tests.common.PropertyWithTitle;
@@ -32,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.apache.commons.lang.ArrayUtils;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -412,6 +414,122 @@ public class ObjectInfoTest extends DesignerTestCase {
     assertThat(parent.getChildren()).containsExactly(child_3, child_1, child_2);
   }
 
+  /**
+   * Parent can not be added as child of its direct/indirect child.
+   */
+  public void test_addChild_parentOfItself() throws Exception {
+    ObjectInfo parent = new TestObjectInfo();
+    ObjectInfo child = new TestObjectInfo();
+    ObjectInfo subChild = new TestObjectInfo();
+    parent.addChild(child);
+    child.addChild(subChild);
+    // itself
+    try {
+      parent.addChild(parent);
+      fail();
+    } catch (AssertionFailedException e) {
+    }
+    // direct parent
+    try {
+      child.addChild(parent);
+      fail();
+    } catch (AssertionFailedException e) {
+    }
+    // indirect parent
+    try {
+      subChild.addChild(parent);
+      fail();
+    } catch (AssertionFailedException e) {
+    }
+    // removed child is not in hierarchy anymore
+    child.removeChild(subChild);
+    subChild.addChild(child);
+    assertThat(subChild.getChildren()).containsExactly(child);
+  }
+
+  /**
+   * Children list keeps valid indexes after any change, including direct changes of list.
+   */
+  public void test_getChildren_indexOf() throws Exception {
+    ObjectInfo parent = new TestObjectInfo();
+    ObjectInfo child_1 = new TestObjectInfo();
+    ObjectInfo child_2 = new TestObjectInfo();
+    ObjectInfo child_3 = new TestObjectInfo();
+    ObjectInfo child_4 = new TestObjectInfo();
+    parent.addChild(child_1);
+    parent.addChild(child_2);
+    parent.addChild(child_3);
+    List<ObjectInfo> children = parent.getChildren();
+    assertEquals(0, children.indexOf(child_1));
+    assertEquals(2, children.indexOf(child_3));
+    assertEquals(-1, children.indexOf(child_4));
+    // add to the end
+    parent.addChild(child_4);
+    assertEquals(3, children.indexOf(child_4));
+    // move
+    parent.moveChild(child_4, child_1);
+    assertThat(children).containsExactly(child_4, child_1, child_2, child_3);
+    assertEquals(0, children.indexOf(child_4));
+    assertEquals(3, children.indexOf(child_3));
+    // remove
+    parent.removeChild(child_1);
+    assertFalse(children.contains(child_1));
+    assertEquals(1, children.indexOf(child_2));
+    // direct changes
+    Collections.reverse(children);
+    assertThat(children).containsExactly(child_3, child_2, child_4);
+    assertEquals(0, children.indexOf(child_3));
+    assertEquals(2, children.indexOf(child_4));
+    children.clear();
+    assertFalse(children.contains(child_3));
+  }
+
+  /**
+   * Insert/remove in the middle of children list updates index, without full rebuild.
+   */
+  public void test_getChildren_indexOf_middle() throws Exception {
+    ObjectInfo parent = new TestObjectInfo();
+    ObjectInfo child_1 = new TestObjectInfo();
+    ObjectInfo child_2 = new TestObjectInfo();
+    ObjectInfo child_3 = new TestObjectInfo();
+    ObjectInfo child_new = new TestObjectInfo();
+    parent.addChild(child_1);
+    parent.addChild(child_2);
+    parent.addChild(child_3);
+    List<ObjectInfo> children = parent.getChildren();
+    assertIndexesValid(children);
+    // insert before "child_2"
+    parent.addChild(child_new, child_2);
+    assertIndexesValid(children);
+    assertThat(children).containsExactly(child_1, child_new, child_2, child_3);
+    assertEquals(0, children.indexOf(child_1));
+    assertEquals(1, children.indexOf(child_new));
+    assertEquals(2, children.indexOf(child_2));
+    assertEquals(3, children.indexOf(child_3));
+    // delete "child_1"
+    parent.removeChild(child_1);
+    assertIndexesValid(children);
+    assertEquals(-1, children.indexOf(child_1));
+    assertEquals(0, children.indexOf(child_new));
+    assertEquals(1, children.indexOf(child_2));
+    assertEquals(2, children.indexOf(child_3));
+    // move "child_3" before "child_new"
+    parent.moveChild(child_3, child_new);
+    assertIndexesValid(children);
+    assertThat(children).containsExactly(child_3, child_new, child_2);
+    assertEquals(0, children.indexOf(child_3));
+    assertEquals(2, children.indexOf(child_2));
+    // replace "child_new" with "child_1"
+    parent.replaceChild(child_new, child_1);
+    assertIndexesValid(children);
+    assertEquals(-1, children.indexOf(child_new));
+    assertEquals(1, children.indexOf(child_1));
+  }
+
+  private static void assertIndexesValid(List<ObjectInfo> children) {
+    assertTrue((Boolean) ReflectionUtils.invokeMethod(children, "isValidIndexes()"));
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // moveChild
@@ -916,6 +1034,41 @@ public class ObjectInfoTest extends DesignerTestCase {
     }
   }
 
+  /**
+   * Listeners are notified in order of adding. Listener added during sending is notified only by
+   * next sending.
+   */
+  public void test_broadcast_orderAndAddDuringSend() throws Exception {
+    final TestObjectInfo object = new TestObjectInfo("object");
+    final StringBuffer buffer = new StringBuffer();
+    final BroadcastTestInterface listener_3 = new BroadcastTestInterface() {
+      public void invoke() {
+        buffer.append("3");
+      }
+    };
+    for (int i = 0; i < 2; i++) {
+      final String name = Integer.toString(i + 1);
+      object.addBroadcastListener(new BroadcastTestInterface() {
+        public void invoke() {
+          buffer.append(name);
+          object.addBroadcastListener(listener_3);
+        }
+      });
+    }
+    // "listener_3" is added, but not notified
+    object.getBroadcast(BroadcastTestInterface.class).invoke();
+    assertEquals("12", buffer.toString());
+    // now "listener_3" is notified, only once
+    buffer.setLength(0);
+    object.getBroadcast(BroadcastTestInterface.class).invoke();
+    assertEquals("123", buffer.toString());
+    // remove "listener_3"
+    buffer.setLength(0);
+    object.removeBroadcastListener(listener_3);
+    object.getBroadcast(BroadcastTestInterface.class).invoke();
+    assertEquals("12", buffer.toString());
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // start/commit/endEdit
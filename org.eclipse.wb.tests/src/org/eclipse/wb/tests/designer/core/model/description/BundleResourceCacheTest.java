@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2011 Google, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Google, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.model.description;
+
+import org.eclipse.wb.internal.core.model.description.helpers.DescriptionHelper;
+import org.eclipse.wb.internal.core.model.description.resource.ResourceInfo;
+import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.Map;
+
+/**
+ * Tests for <code>BundleResourceCache</code>.
+ *
+ * @author scheglov_ke
+ */
+public class BundleResourceCacheTest extends DesignerTestCase {
+  private static final String TOOLKIT_ID =
+      org.eclipse.wb.internal.swing.preferences.IPreferenceConstants.TOOLKIT_ID;
+  private static final String EXISTING_NAME = "javax/swing/JButton.wbp-component.xml";
+  private static final String MISSING_NAME = "no/such/Component.wbp-component.xml";
+  private static final String MISSING_NAME_2 = "no/such/Component_2.wbp-component.xml";
+  private Class<?> m_cacheClass;
+  private File m_cacheFile;
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Life cycle
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    m_cacheClass =
+        DescriptionHelper.class.getClassLoader().loadClass(
+            "org.eclipse.wb.internal.core.model.description.helpers.BundleResourceCache");
+    m_cacheFile = File.createTempFile("wbpTests", ".dat");
+    m_cacheFile.delete();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    setCacheFile(null, false);
+    m_cacheFile.delete();
+    super.tearDown();
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Tests
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Cached result is same as not cached.
+   */
+  public void test_existingResource() throws Exception {
+    setCacheFile(m_cacheFile, true);
+    ResourceInfo expected = DescriptionHelper.getResourceInfo(EXISTING_NAME, TOOLKIT_ID);
+    assertNotNull(expected);
+    for (int i = 0; i < 2; i++) {
+      ResourceInfo resource = getResourceInfo(EXISTING_NAME);
+      assertNotNull(resource);
+      assertEquals(expected.getURL(), resource.getURL());
+      assertSame(expected.getBundle(), resource.getBundle());
+    }
+  }
+
+  /**
+   * Entries are written into file and loaded from it, new entries are appended.
+   */
+  public void test_writeAndLoad() throws Exception {
+    setCacheFile(m_cacheFile, true);
+    assertNotNull(getResourceInfo(EXISTING_NAME));
+    assertNull(getResourceInfo(MISSING_NAME));
+    assertFileHasOnlySignature();
+    writePendingEntries();
+    // load
+    {
+      Map<String, String[]> entries = reload();
+      assertEquals(2, entries.size());
+      assertEquals(2, entries.get(getKey(EXISTING_NAME)).length);
+      assertEquals(0, entries.get(getKey(MISSING_NAME)).length);
+      // same results
+      assertNotNull(getResourceInfo(EXISTING_NAME));
+      assertNull(getResourceInfo(MISSING_NAME));
+    }
+    // append
+    assertNull(getResourceInfo(MISSING_NAME_2));
+    writePendingEntries();
+    {
+      Map<String, String[]> entries = reload();
+      assertEquals(3, entries.size());
+      assertEquals(2, entries.get(getKey(EXISTING_NAME)).length);
+      assertEquals(0, entries.get(getKey(MISSING_NAME)).length);
+      assertEquals(0, entries.get(getKey(MISSING_NAME_2)).length);
+    }
+  }
+
+  /**
+   * File with different signature of bundles is ignored and replaced with new one.
+   */
+  public void test_staleSignature() throws Exception {
+    {
+      DataOutputStream dataOutput = new DataOutputStream(new FileOutputStream(m_cacheFile));
+      try {
+        dataOutput.writeUTF("stale signature");
+        dataOutput.writeUTF(getKey(MISSING_NAME));
+        dataOutput.writeInt(0);
+      } finally {
+        IOUtils.closeQuietly(dataOutput);
+      }
+    }
+    assertTrue(reload().isEmpty());
+    assertTrue(isPersistent());
+    assertFalse("stale signature".equals(getSignature()));
+    // still works
+    assertNull(getResourceInfo(MISSING_NAME));
+    assertNotNull(getResourceInfo(EXISTING_NAME));
+  }
+
+  /**
+   * Corrupted or truncated file is ignored and replaced with new one, with only signature.
+   */
+  public void test_corruptedFile() throws Exception {
+    setCacheFile(m_cacheFile, true);
+    getResourceInfo(MISSING_NAME);
+    writePendingEntries();
+    String signature = getSignature();
+    // invalid length of entry
+    {
+      appendToFile(getKey(EXISTING_NAME), -5);
+      assertTrue(reload().isEmpty());
+      assertTrue(isPersistent());
+      assertEquals(signature, getSignature());
+      assertFileHasOnlySignature();
+    }
+    // truncated entry
+    {
+      appendToFile(getKey(EXISTING_NAME), 2);
+      assertTrue(reload().isEmpty());
+      assertTrue(isPersistent());
+      assertFileHasOnlySignature();
+    }
+    // still works
+    assertNotNull(getResourceInfo(EXISTING_NAME));
+    assertNull(getResourceInfo(MISSING_NAME));
+  }
+
+  /**
+   * If cache is not persistent, for example because of directory bundles, then file is not used
+   * and absence of resource is not remembered.
+   */
+  public void test_notPersistent() throws Exception {
+    setCacheFile(m_cacheFile, false);
+    assertNull(getResourceInfo(MISSING_NAME));
+    assertNotNull(getResourceInfo(EXISTING_NAME));
+    writePendingEntries();
+    assertFalse(isPersistent());
+    assertFalse(getEntries().containsKey(getKey(MISSING_NAME)));
+    assertTrue(getEntries().containsKey(getKey(EXISTING_NAME)));
+    assertFalse(m_cacheFile.exists());
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Utils
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  private ResourceInfo getResourceInfo(String name) throws Exception {
+    return (ResourceInfo) ReflectionUtils.invokeMethod(
+        m_cacheClass,
+        "getResourceInfo(java.lang.String,java.lang.String)",
+        name,
+        TOOLKIT_ID);
+  }
+
+  private void setCacheFile(File cacheFile, boolean persistent) throws Exception {
+    ReflectionUtils.invokeMethod(
+        m_cacheClass,
+        "setCacheFile(java.io.File,boolean)",
+        cacheFile,
+        persistent);
+  }
+
+  private void writePendingEntries() throws Exception {
+    ReflectionUtils.invokeMethod(m_cacheClass, "writePendingEntries()");
+  }
+
+  /**
+   * @return the entries loaded from cache file.
+   */
+  private Map<String, String[]> reload() throws Exception {
+    setCacheFile(m_cacheFile, true);
+    ReflectionUtils.invokeMethod(m_cacheClass, "ensureLoaded()");
+    return getEntries();
+  }
+
+  private static String getKey(String name) {
+    return TOOLKIT_ID + " " + name;
+  }
+
+  private boolean isPersistent() throws Exception {
+    return ReflectionUtils.getFieldBoolean(m_cacheClass, "m_persistent");
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, String[]> getEntries() throws Exception {
+    return (Map<String, String[]>) ReflectionUtils.getFieldObject(m_cacheClass, "m_entries");
+  }
+
+  /**
+   * @return the signature of bundles written at the beginning of cache file.
+   */
+  private String getSignature() throws Exception {
+    DataInputStream dataInput = new DataInputStream(new FileInputStream(m_cacheFile));
+    try {
+      return dataInput.readUTF();
+    } finally {
+      IOUtils.closeQuietly(dataInput);
+    }
+  }
+
+  private void assertFileHasOnlySignature() throws Exception {
+    DataInputStream dataInput = new DataInputStream(new FileInputStream(m_cacheFile));
+    try {
+      dataInput.readUTF();
+      assertEquals(0, dataInput.available());
+    } finally {
+      IOUtils.closeQuietly(dataInput);
+    }
+  }
+
+  /**
+   * Appends key and length of entry, but not its values.
+   */
+  private void appendToFile(String key, int length) throws Exception {
+    DataOutputStream dataOutput = new DataOutputStream(new FileOutputStream(m_cacheFile, true));
+    try {
+      dataOutput.writeUTF(key);
+      dataOutput.writeInt(length);
+    } finally {
+      IOUtils.closeQuietly(dataOutput);
+    }
+  }
+}
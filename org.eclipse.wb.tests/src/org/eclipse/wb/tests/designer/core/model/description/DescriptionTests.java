@@ -41,6 +41,7 @@ public class DescriptionTests extends DesignerSuiteTests {
     suite.addTest(createSingleSuite(MorphingTargetDescriptionTest.class));
     suite.addTest(createSingleSuite(DescriptionVersionsProvidersTest.class));
     suite.addTest(createSingleSuite(ComponentDescriptionHelperTest.class));
+    suite.addTest(createSingleSuite(BundleResourceCacheTest.class));
     suite.addTest(createSingleSuite(GenericPropertyDescriptionTest.class));
     suite.addTest(createSingleSuite(BeanPropertyTagsTest.class));
     suite.addTest(createSingleSuite(MethodSinglePropertyRuleTest.class));
@@ -231,4 +231,45 @@ public class ScriptUtilsTest extends SwingModelTest {
             3);
     assertEquals(2 * 2 + 3 * 3, actual);
   }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Sessions
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Parsed editor begins session, so MVEL caches are not cleared while it is alive.
+   */
+  public void test_session_editor() throws Exception {
+    disposeLastModel();
+    int count = getSessionCount();
+    parseContainer(
+        "// filler filler filler",
+        "public class Test extends JPanel {",
+        "  public Test() {",
+        "  }",
+        "}");
+    assertEquals(count + 1, getSessionCount());
+    disposeLastModel();
+    assertEquals(count, getSessionCount());
+  }
+
+  /**
+   * Sessions are counted, so caches are cleared only when last session ends.
+   */
+  public void test_session_nested() throws Exception {
+    int count = getSessionCount();
+    ScriptUtils.beginSession();
+    ScriptUtils.beginSession();
+    assertEquals(count + 2, getSessionCount());
+    ScriptUtils.endSession();
+    assertEquals(count + 1, getSessionCount());
+    assertEquals(5, ScriptUtils.evaluate("2 + 3"));
+    ScriptUtils.endSession();
+    assertEquals(count, getSessionCount());
+  }
+
+  private static int getSessionCount() throws Exception {
+    return ReflectionUtils.getFieldInt(ScriptUtils.class, "m_sessionCount");
+  }
 }
@@ -2700,6 +2700,43 @@ public class AstEditorTest extends AbstractJavaTest {
         m_lastEditor);
   }
 
+  /**
+   * Nodes before changed region are not visited, but should keep their positions; nodes after
+   * changed region should be moved.
+   */
+  public void test_replaceSubstring_5() throws Exception {
+    TypeDeclaration typeDeclaration =
+        createTypeDeclaration_TestD(
+            "class Test {",
+            "  private int m_a = 1;",
+            "  private int m_b = 2;",
+            "  private int m_c = 3;",
+            "}");
+    FieldDeclaration[] fields = typeDeclaration.getFields();
+    VariableDeclarationFragment fragment_a =
+        (VariableDeclarationFragment) fields[0].fragments().get(0);
+    VariableDeclarationFragment fragment_b =
+        (VariableDeclarationFragment) fields[1].fragments().get(0);
+    VariableDeclarationFragment fragment_c =
+        (VariableDeclarationFragment) fields[2].fragments().get(0);
+    // do change
+    m_lastEditor.replaceSubstring(fragment_b.getInitializer(), "222");
+    assertEquals("private int m_a = 1;", m_lastEditor.getSource(fields[0]));
+    assertEquals("m_a", m_lastEditor.getSource(fragment_a.getName()));
+    assertEquals("private int m_b = 222;", m_lastEditor.getSource(fields[1]));
+    assertEquals("222", m_lastEditor.getSource(fragment_b.getInitializer()));
+    assertEquals("private int m_c = 3;", m_lastEditor.getSource(fields[2]));
+    assertEquals("3", m_lastEditor.getSource(fragment_c.getInitializer()));
+    assertEditor(
+        getSourceDQ(
+            "class Test {",
+            "  private int m_a = 1;",
+            "  private int m_b = 222;",
+            "  private int m_c = 3;",
+            "}"),
+        m_lastEditor);
+  }
+
   private String getNodesTree(ASTNode root) {
     final StringBuffer buffer = new StringBuffer();
     root.accept(new ASTVisitor() {
@@ -892,6 +892,35 @@ public class XmlDocumentTest extends AbstractJavaProjectTest {
         "<root name='newValue'/>");
   }
 
+  /**
+   * Elements before changed region should keep their offsets, elements after it should be moved.
+   */
+  public void test_attribute_edit_siblings() throws Exception {
+    prepareContext(
+        "<?xml version='1.0' encoding='UTF-8'?>",
+        "<root>",
+        "  <first name='a'/>",
+        "  <second name='b'/>",
+        "  <third name='c'/>",
+        "</root>");
+    DocumentElement first = rootElement.getChildAt(0);
+    DocumentElement second = rootElement.getChildAt(1);
+    DocumentElement third = rootElement.getChildAt(2);
+    int firstOffset = first.getOffset();
+    int thirdOffset = third.getOffset();
+    // update attribute value
+    second.setAttribute("name", "bbb");
+    assertEquals(firstOffset, first.getOffset());
+    assertEquals(thirdOffset + 2, third.getOffset());
+    assertContext(
+        "<?xml version='1.0' encoding='UTF-8'?>",
+        "<root>",
+        "  <first name='a'/>",
+        "  <second name='bbb'/>",
+        "  <third name='c'/>",
+        "</root>");
+  }
+
   /**
    * Test for {@link DocumentAttribute#setValue(String)}.
    */
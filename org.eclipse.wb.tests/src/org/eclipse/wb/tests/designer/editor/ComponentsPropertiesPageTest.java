@@ -13,11 +13,13 @@ package org.eclipse.wb.tests.designer.editor;
 import org.eclipse.wb.core.editor.structure.property.PropertyCategoryProviderProvider;
 import org.eclipse.wb.core.editor.structure.property.PropertyListProcessor;
 import org.eclipse.wb.core.model.ObjectInfo;
+import org.eclipse.wb.core.model.broadcast.ObjectInfoAllProperties;
 import org.eclipse.wb.internal.core.editor.structure.property.ComponentsPropertiesPage;
 import org.eclipse.wb.internal.core.model.property.ComplexProperty;
 import org.eclipse.wb.internal.core.model.property.Property;
 import org.eclipse.wb.internal.core.model.property.category.PropertyCategory;
 import org.eclipse.wb.internal.core.model.property.category.PropertyCategoryProvider;
+import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.core.TestBundle;
 import org.eclipse.wb.tests.designer.swing.SwingGefTest;
@@ -142,4 +144,41 @@ public class ComponentsPropertiesPageTest extends SwingGefTest {
       testBundle.dispose();
     }
   }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Selection
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Properties of same selection should be asked only once after refresh, even if selection was
+   * changed many times before.
+   */
+  public void test_sameSelection_askPropertiesOnce() throws Exception {
+    final ContainerInfo panel =
+        openContainer(
+            "public class Test extends JPanel {",
+            "  public Test() {",
+            "    JButton button = new JButton();",
+            "    add(button);",
+            "  }",
+            "}");
+    ComponentInfo button = panel.getChildrenComponents().get(0);
+    canvas.select(button);
+    canvas.select(panel);
+    canvas.select(button);
+    canvas.select(panel);
+    // count properties requests
+    final int[] count = {0};
+    panel.addBroadcastListener(new ObjectInfoAllProperties() {
+      public void invoke(ObjectInfo object, List<Property> properties) throws Exception {
+        if (object == panel) {
+          count[0]++;
+        }
+      }
+    });
+    panel.refresh();
+    waitEventLoop(0);
+    assertEquals(1, count[0]);
+  }
 }
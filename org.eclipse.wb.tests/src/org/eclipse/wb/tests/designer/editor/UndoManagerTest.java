@@ -47,6 +47,8 @@ import org.eclipse.ui.part.FileEditorInput;
 
 import org.apache.commons.lang.ArrayUtils;
 
+import java.awt.BorderLayout;
+import java.awt.CardLayout;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -242,6 +244,99 @@ public class UndoManagerTest extends SwingGefTest {
     assertNotSame(originalContainer, m_contentJavaInfo);
   }
 
+  /**
+   * When only text of {@link String} argument in method invocation was changed, we can keep
+   * existing hierarchy and just refresh it, without reparse.
+   */
+  public void test_modifyStringLiteral_noReparse() throws Exception {
+    ContainerInfo originalContainer =
+        openContainer(
+            "// filler filler filler",
+            "public class Test extends JFrame {",
+            "  public Test() {",
+            "    setTitle('abc');",
+            "  }",
+            "}");
+    replaceInSourceBuffer("'abc'", "'abcdef'");
+    // same model, but refreshed
+    fetchContentFields();
+    assertSame(originalContainer, m_contentJavaInfo);
+    assertEquals("abcdef", ((JFrame) originalContainer.getObject()).getTitle());
+    assertEquals(getCompilationUnitSource(), m_lastEditor.getSource());
+  }
+
+  /**
+   * Layout constraints are parsed into model, so change of constraints literal requires reparse.
+   */
+  public void test_modifyBorderLayoutConstraintLiteral_reparse() throws Exception {
+    ContainerInfo originalPanel =
+        openContainer(
+            "// filler filler filler",
+            "public class Test extends JPanel {",
+            "  public Test() {",
+            "    setLayout(new BorderLayout());",
+            "    JButton button = new JButton();",
+            "    add(button, 'North');",
+            "  }",
+            "}");
+    replaceInSourceBuffer("'North'", "'South'");
+    // new model, with new constraints
+    fetchContentFields();
+    assertNotSame(originalPanel, m_contentJavaInfo);
+    ContainerInfo panel = (ContainerInfo) m_contentJavaInfo;
+    ComponentInfo button = panel.getChildrenComponents().get(0);
+    BorderLayout layout = (BorderLayout) panel.getContainer().getLayout();
+    assertEquals("South", layout.getConstraints(button.getComponent()));
+  }
+
+  /**
+   * Name of card in {@link CardLayout} is not property, so its change requires reparse.
+   */
+  public void test_modifyCardLayoutNameLiteral_reparse() throws Exception {
+    ContainerInfo originalPanel =
+        openContainer(
+            "// filler filler filler",
+            "public class Test extends JPanel {",
+            "  public Test() {",
+            "    setLayout(new CardLayout());",
+            "    JButton button = new JButton();",
+            "    add(button, 'abc');",
+            "  }",
+            "}");
+    replaceInSourceBuffer("'abc'", "'abcdef'");
+    fetchContentFields();
+    assertNotSame(originalPanel, m_contentJavaInfo);
+    assertEquals(m_lastEditor.getSource(), getCompilationUnitSource());
+  }
+
+  /**
+   * Replaces text in buffer of {@link ICompilationUnit} while "Source" page is active, then switches
+   * to "Design" page.
+   */
+  private void replaceInSourceBuffer(String search, String replacement) throws Exception {
+    search = search.replace('\'', '"');
+    replacement = replacement.replace('\'', '"');
+    ICompilationUnit compilationUnit = getDesignCompilationUnit();
+    openSourcePage();
+    {
+      String source = compilationUnit.getBuffer().getContents();
+      int index = source.indexOf(search);
+      assertTrue(index != -1);
+      compilationUnit.getBuffer().replace(index, search.length(), replacement);
+    }
+    waitEventLoop(0);
+    openDesignPage();
+  }
+
+  private String getCompilationUnitSource() throws Exception {
+    return getDesignCompilationUnit().getBuffer().getContents();
+  }
+
+  private ICompilationUnit getDesignCompilationUnit() throws Exception {
+    Field field = ReflectionUtils.getFieldByName(m_designPage.getClass(), "m_compilationUnit");
+    return (ICompilationUnit) field.get(m_designPage);
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // Expansion
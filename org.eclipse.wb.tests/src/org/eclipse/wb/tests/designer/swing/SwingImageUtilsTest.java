@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2011 Google, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Google, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.swing;
+
+import com.google.common.collect.Maps;
+
+import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.internal.swing.utils.SwingImageUtils;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.Map;
+
+/**
+ * Tests for {@link SwingImageUtils}.
+ *
+ * @author scheglov_ke
+ */
+public class SwingImageUtilsTest extends DesignerTestCase {
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // convertImage_AWT_to_SWT()
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * {@link BufferedImage#TYPE_INT_RGB} image is converted by rows, result should have same pixels
+   * as {@link BufferedImage#getRGB(int, int)}.
+   */
+  public void test_convertImage_INT_RGB() throws Exception {
+    BufferedImage image = createImage(37, 23);
+    assertConvertedImage(image);
+  }
+
+  /**
+   * Sub-image shares raster of parent image, with offset.
+   */
+  public void test_convertImage_INT_RGB_subImage() throws Exception {
+    BufferedImage image = createImage(37, 23).getSubimage(5, 3, 20, 11);
+    assertEquals(BufferedImage.TYPE_INT_RGB, image.getType());
+    assertConvertedImage(image);
+  }
+
+  /**
+   * Raster with non-zero offset in {@link DataBufferInt} and scanline stride greater than width.
+   */
+  public void test_convertImage_INT_RGB_rasterOffset() throws Exception {
+    int width = 19;
+    int height = 7;
+    int offset = 11;
+    int scanlineStride = width + 4;
+    int[] data = new int[offset + scanlineStride * height];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = 0xDEAD00 + i * 0x010203;
+    }
+    DataBufferInt dataBuffer = new DataBufferInt(data, data.length - offset, offset);
+    int[] masks = {0xFF0000, 0x00FF00, 0x0000FF};
+    WritableRaster raster =
+        Raster.createPackedRaster(dataBuffer, width, height, scanlineStride, masks, null);
+    DirectColorModel colorModel = new DirectColorModel(24, masks[0], masks[1], masks[2]);
+    BufferedImage image = new BufferedImage(colorModel, raster, false, null);
+    assertEquals(BufferedImage.TYPE_INT_RGB, image.getType());
+    assertConvertedImage(image);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // convertImages_AWT_to_SWT()
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Images converted in parallel are same as converted one by one.
+   */
+  public void test_convertImages() throws Exception {
+    Map<String, java.awt.Image> awtImages = Maps.newLinkedHashMap();
+    awtImages.put("rgb_1", createImage(37, 23));
+    awtImages.put("rgb_2", createImage(100, 50));
+    awtImages.put("rgb_3", createImage(1, 1));
+    awtImages.put("subImage", createImage(37, 23).getSubimage(5, 3, 20, 11));
+    {
+      BufferedImage argbImage = new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB);
+      argbImage.getGraphics().drawImage(createImage(10, 20), 0, 0, null);
+      awtImages.put("argb", argbImage);
+    }
+    // do convert
+    Map<String, Image> swtImages = SwingImageUtils.convertImages_AWT_to_SWT(awtImages);
+    try {
+      assertEquals(awtImages.keySet(), swtImages.keySet());
+      for (Map.Entry<String, java.awt.Image> entry : awtImages.entrySet()) {
+        Image expected = SwingImageUtils.convertImage_AWT_to_SWT(entry.getValue());
+        try {
+          assertSamePixels(expected, swtImages.get(entry.getKey()));
+        } finally {
+          expected.dispose();
+        }
+      }
+    } finally {
+      for (Image swtImage : swtImages.values()) {
+        swtImage.dispose();
+      }
+    }
+  }
+
+  /**
+   * If conversion of some image fails, then already created SWT {@link Image}'s are disposed.
+   */
+  public void test_convertImages_failure() throws Exception {
+    Map<String, java.awt.Image> awtImages = Maps.newLinkedHashMap();
+    awtImages.put("argb", new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB));
+    awtImages.put("rgb_1", createImage(10, 20));
+    awtImages.put("failing", new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB) {
+      @Override
+      public WritableRaster getRaster() {
+        throw new IllegalStateException();
+      }
+    });
+    awtImages.put("rgb_2", createImage(10, 20));
+    // do convert
+    Map<String, Image> swtImages = Maps.newLinkedHashMap();
+    try {
+      ReflectionUtils.invokeMethod(
+          SwingImageUtils.class,
+          "convertImages_AWT_to_SWT(java.util.Map,java.util.Map)",
+          awtImages,
+          swtImages);
+      fail();
+    } catch (Throwable e) {
+    }
+    // images before "failing" were created, and disposed
+    assertEquals(2, swtImages.size());
+    assertTrue(swtImages.get("argb").isDisposed());
+    assertTrue(swtImages.get("rgb_1").isDisposed());
+  }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // Utils
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * @return the {@link BufferedImage#TYPE_INT_RGB} image with different color of each pixel.
+   */
+  private static BufferedImage createImage(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        image.setRGB(x, y, x * 0x0A0000 + y * 0x000B00 + (x + y) * 0x000007);
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Asserts that SWT {@link Image} converted from given AWT image has same size and pixels.
+   */
+  private static void assertConvertedImage(BufferedImage awtImage) throws Exception {
+    Image swtImage = SwingImageUtils.convertImage_AWT_to_SWT(awtImage);
+    try {
+      assertSamePixels(awtImage, swtImage);
+    } finally {
+      swtImage.dispose();
+    }
+  }
+
+  private static void assertSamePixels(Image expectedImage, Image swtImage) {
+    ImageData expectedData = expectedImage.getImageData();
+    ImageData imageData = swtImage.getImageData();
+    assertEquals(expectedData.width, imageData.width);
+    assertEquals(expectedData.height, imageData.height);
+    for (int x = 0; x < imageData.width; x++) {
+      for (int y = 0; y < imageData.height; y++) {
+        RGB expected = expectedData.palette.getRGB(expectedData.getPixel(x, y));
+        RGB actual = imageData.palette.getRGB(imageData.getPixel(x, y));
+        assertEquals("(" + x + ", " + y + ")", expected, actual);
+      }
+    }
+  }
+
+  private static void assertSamePixels(BufferedImage awtImage, Image swtImage) {
+    ImageData imageData = swtImage.getImageData();
+    assertEquals(awtImage.getWidth(), imageData.width);
+    assertEquals(awtImage.getHeight(), imageData.height);
+    for (int x = 0; x < imageData.width; x++) {
+      for (int y = 0; y < imageData.height; y++) {
+        int expected = awtImage.getRGB(x, y) & 0xFFFFFF;
+        RGB rgb = imageData.palette.getRGB(imageData.getPixel(x, y));
+        int actual = rgb.red << 16 | rgb.green << 8 | rgb.blue;
+        assertEquals("(" + x + ", " + y + ")", expected, actual);
+      }
+    }
+  }
+}
@@ -28,6 +28,7 @@ public class SwingTests extends DesignerSuiteTests {
     TestSuite suite = new TestSuite("org.eclipse.wb.swing");
     suite.addTest(createSingleSuite(LookAndFeelTest.class));
     suite.addTest(createSingleSuite(ConvertersTest.class));
+    suite.addTest(createSingleSuite(SwingImageUtilsTest.class));
     suite.addTest(createSingleSuite(CustomizeTest.class));
     suite.addTest(ModelTests.suite());
     suite.addTest(AmsTests.suite());
@@ -13,11 +13,23 @@ package org.eclipse.wb.tests.designer.swing.model.layout.group;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.creation.ConstructorCreationSupport;
+import org.eclipse.wb.internal.core.utils.IAdaptable;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
+import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.internal.layout.group.model.AnchorsSupport;
+import org.eclipse.wb.internal.layout.group.model.GroupLayoutSupport;
+import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.internal.swing.model.layout.LayoutInfo;
 import org.eclipse.wb.tests.designer.swing.model.layout.AbstractLayoutTest;
 
+import org.eclipse.jdt.core.dom.MethodInvocation;
+
+import org.netbeans.modules.form.layoutdesign.LayoutConstants;
+
 import java.awt.FlowLayout;
+import java.util.List;
 
 import javax.swing.GroupLayout;
 
@@ -142,4 +154,151 @@ public class GroupLayoutTest extends AbstractLayoutTest {
         "  }",
         "}");
   }
+
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // saveLayout()
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * If layout was not changed, then invocations added by previous save are kept, so source is not
+   * changed.
+   */
+  public void test_saveLayout_noChange() throws Exception {
+    ContainerInfo panel = parseSaveLayoutContainer();
+    saveLayout(panel);
+    String source = m_lastEditor.getSource();
+    MethodInvocation horizontal = getGroupInvocation(panel, "SIGNATURE_SET_HORIZONTAL_GROUP");
+    MethodInvocation vertical = getGroupInvocation(panel, "SIGNATURE_SET_VERTICAL_GROUP");
+    // save again
+    saveLayout(panel);
+    assertEquals(source, m_lastEditor.getSource());
+    assertSame(horizontal, getGroupInvocation(panel, "SIGNATURE_SET_HORIZONTAL_GROUP"));
+    assertSame(vertical, getGroupInvocation(panel, "SIGNATURE_SET_VERTICAL_GROUP"));
+    assertSameAsFullRegeneration(panel);
+  }
+
+  /**
+   * Change in vertical dimension rewrites only <code>setVerticalGroup()</code>, and
+   * <code>linkSize()</code> after it.
+   */
+  public void test_saveLayout_verticalChange() throws Exception {
+    ContainerInfo panel = parseSaveLayoutContainer();
+    saveLayout(panel);
+    String source = m_lastEditor.getSource();
+    MethodInvocation horizontal = getGroupInvocation(panel, "SIGNATURE_SET_HORIZONTAL_GROUP");
+    MethodInvocation vertical = getGroupInvocation(panel, "SIGNATURE_SET_VERTICAL_GROUP");
+    // change height of "button_1"
+    setComponentSize(panel, LayoutConstants.VERTICAL, 50);
+    assertFalse(source.equals(m_lastEditor.getSource()));
+    assertSame(horizontal, getGroupInvocation(panel, "SIGNATURE_SET_HORIZONTAL_GROUP"));
+    assertNotSame(vertical, getGroupInvocation(panel, "SIGNATURE_SET_VERTICAL_GROUP"));
+    assertSameAsFullRegeneration(panel);
+  }
+
+  /**
+   * Change in horizontal dimension rewrites all invocations.
+   */
+  public void test_saveLayout_horizontalChange() throws Exception {
+    ContainerInfo panel = parseSaveLayoutContainer();
+    saveLayout(panel);
+    String source = m_lastEditor.getSource();
+    MethodInvocation horizontal = getGroupInvocation(panel, "SIGNATURE_SET_HORIZONTAL_GROUP");
+    MethodInvocation vertical = getGroupInvocation(panel, "SIGNATURE_SET_VERTICAL_GROUP");
+    // change width of "button_1"
+    setComponentSize(panel, LayoutConstants.HORIZONTAL, 150);
+    assertFalse(source.equals(m_lastEditor.getSource()));
+    assertNotSame(horizontal, getGroupInvocation(panel, "SIGNATURE_SET_HORIZONTAL_GROUP"));
+    assertNotSame(vertical, getGroupInvocation(panel, "SIGNATURE_SET_VERTICAL_GROUP"));
+    assertSameAsFullRegeneration(panel);
+  }
+
+  private ContainerInfo parseSaveLayoutContainer() throws Exception {
+    ContainerInfo panel =
+        parseContainer(
+            "import javax.swing.GroupLayout.Alignment;",
+            "public class Test extends JPanel {",
+            "  public Test() {",
+            "    JButton button_1 = new JButton('1');",
+            "    JButton button_2 = new JButton('2');",
+            "    GroupLayout groupLayout = new GroupLayout(this);",
+            "    groupLayout.setHorizontalGroup(",
+            "      groupLayout.createParallelGroup(Alignment.LEADING)",
+            "        .addGroup(groupLayout.createSequentialGroup()",
+            "          .addContainerGap()",
+            "          .addComponent(button_1)",
+            "          .addGap(18)",
+            "          .addComponent(button_2)",
+            "          .addContainerGap(200, Short.MAX_VALUE))",
+            "    );",
+            "    groupLayout.setVerticalGroup(",
+            "      groupLayout.createParallelGroup(Alignment.LEADING)",
+            "        .addGroup(groupLayout.createSequentialGroup()",
+            "          .addContainerGap()",
+            "          .addGroup(groupLayout.createParallelGroup(Alignment.BASELINE)",
+            "            .addComponent(button_1)",
+            "            .addComponent(button_2))",
+            "          .addContainerGap(200, Short.MAX_VALUE))",
+            "    );",
+            "    setLayout(groupLayout);",
+            "  }",
+            "}");
+    panel.refresh();
+    return panel;
+  }
+
+  private static GroupLayoutSupport getLayoutSupport(ContainerInfo panel) {
+    return ((IAdaptable) panel.getLayout()).getAdapter(GroupLayoutSupport.class);
+  }
+
+  private static void saveLayout(final ContainerInfo panel) throws Exception {
+    ExecutionUtils.run(panel, new RunnableEx() {
+      public void run() throws Exception {
+        getLayoutSupport(panel).saveLayout();
+      }
+    });
+  }
+
+  /**
+   * Sets size of first component in given dimension, layout is saved.
+   */
+  private static void setComponentSize(final ContainerInfo panel,
+      final int dimension,
+      final int size) throws Exception {
+    ExecutionUtils.run(panel, new RunnableEx() {
+      public void run() throws Exception {
+        ComponentInfo button = panel.getChildrenComponents().get(0);
+        new AnchorsSupport(getLayoutSupport(panel)).action_setComponentSize(
+            button,
+            dimension,
+            size);
+      }
+    });
+  }
+
+  /**
+   * @return the single {@link MethodInvocation} of <code>GroupLayout</code> with signature from
+   *         given field of code support.
+   */
+  private static MethodInvocation getGroupInvocation(ContainerInfo panel, String signatureField)
+      throws Exception {
+    Object codeSupport = ReflectionUtils.getFieldObject(getLayoutSupport(panel), "m_codeSupport");
+    String signature = ReflectionUtils.getFieldString(codeSupport, signatureField);
+    List<MethodInvocation> invocations = panel.getLayout().getMethodInvocations(signature);
+    assertEquals(1, invocations.size());
+    return invocations.get(0);
+  }
+
+  /**
+   * Asserts that full regeneration of layout code, without keeping any invocations of previous
+   * save, gives same source.
+   */
+  private void assertSameAsFullRegeneration(ContainerInfo panel) throws Exception {
+    String source = m_lastEditor.getSource();
+    Object codeSupport = ReflectionUtils.getFieldObject(getLayoutSupport(panel), "m_codeSupport");
+    ((List<?>) ReflectionUtils.getFieldObject(codeSupport, "m_savedInvocations")).clear();
+    ((List<?>) ReflectionUtils.getFieldObject(codeSupport, "m_savedCode")).clear();
+    saveLayout(panel);
+    assertEquals(source, m_lastEditor.getSource());
+  }
 }
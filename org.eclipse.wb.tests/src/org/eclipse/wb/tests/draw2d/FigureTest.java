@@ -845,6 +845,33 @@ public class FigureTest extends Draw2dFigureTestCase {
     assertSame(testFigure1, track.get(0));
   }
 
+  public void test_visit_finished() throws Exception {
+    Figure testFigure1 = new Figure();
+    Figure testFigure2 = new Figure();
+    Figure testFigure3 = new Figure();
+    testFigure1.add(testFigure2);
+    testFigure1.add(testFigure3);
+    //
+    final List<Figure> track = Lists.newArrayList();
+    FigureVisitor visitor = new FigureVisitor() {
+      @Override
+      public boolean visit(Figure figure) {
+        track.add(figure);
+        return super.visit(figure);
+      }
+
+      @Override
+      public boolean isFinished() {
+        return track.size() == 2;
+      }
+    };
+    // children after "finished" are not visited
+    testFigure1.accept(visitor, true);
+    assertEquals(2, track.size());
+    assertSame(testFigure1, track.get(0));
+    assertSame(testFigure2, track.get(1));
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // Event tests
@@ -14,6 +14,8 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
+import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
+import org.eclipse.wb.internal.core.utils.reflect.ICacheableByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
@@ -232,6 +234,125 @@ public class ProjectClassLoaderTest extends SwingModelTest {
     assertNoErrors(panel);
   }
 
+  ////////////////////////////////////////////////////////////////////////////
+  //
+  // IByteCodeProcessor
+  //
+  ////////////////////////////////////////////////////////////////////////////
+  /**
+   * Transformed bytes are shared between {@link ProjectClassLoader}'s, but only if state of
+   * {@link ICacheableByteCodeProcessor} is same.
+   */
+  public void test_byteCodeProcessor_cacheKeyWithState() throws Exception {
+    prepareValueClass();
+    // unique state, so bytes cached by previous runs are not used
+    String session = Long.toString(System.nanoTime());
+    int[] count = {0};
+    assertEquals("BBBB", loadValue(new ReplaceValueProcessor(session, "BBBB", count)));
+    assertEquals(1, count[0]);
+    // different state, so processed again
+    assertEquals("CCCC", loadValue(new ReplaceValueProcessor(session, "CCCC", count)));
+    assertEquals(2, count[0]);
+    // same state, so cached bytes are used
+    assertEquals("BBBB", loadValue(new ReplaceValueProcessor(session, "BBBB", count)));
+    assertEquals("CCCC", loadValue(new ReplaceValueProcessor(session, "CCCC", count)));
+    assertEquals(2, count[0]);
+  }
+
+  /**
+   * Not {@link ICacheableByteCodeProcessor} is invoked for each {@link ProjectClassLoader}.
+   */
+  public void test_byteCodeProcessor_notCacheable() throws Exception {
+    prepareValueClass();
+    final int[] count = {0};
+    IByteCodeProcessor processor = new IByteCodeProcessor() {
+      public void initialize(ProjectClassLoader classLoader) {
+      }
+
+      public byte[] process(String className, byte[] bytes) {
+        if (className.equals("test.MyValue")) {
+          count[0]++;
+          return replaceValue(bytes, "DDDD");
+        }
+        return bytes;
+      }
+    };
+    assertEquals("DDDD", loadValue(processor));
+    assertEquals("DDDD", loadValue(processor));
+    assertEquals(2, count[0]);
+  }
+
+  private void prepareValueClass() throws Exception {
+    setFileContentSrc(
+        "test/MyValue.java",
+        getTestSource(
+            "public class MyValue {",
+            "  public static String getValue() {",
+            "    return 'AAAA';",
+            "  }",
+            "}"));
+    waitForAutoBuild();
+  }
+
+  /**
+   * @return the result of <code>MyValue.getValue()</code>, loaded by new {@link ProjectClassLoader}
+   *         with given {@link IByteCodeProcessor}.
+   */
+  private static String loadValue(IByteCodeProcessor processor) throws Exception {
+    ProjectClassLoader classLoader = ProjectClassLoader.create(null, m_javaProject);
+    classLoader.add(processor);
+    Class<?> valueClass = classLoader.loadClass("test.MyValue");
+    return (String) ReflectionUtils.invokeMethod(valueClass, "getValue()");
+  }
+
+  /**
+   * @return the copy of class bytes, with "AAAA" constant replaced with given value of same length.
+   */
+  private static byte[] replaceValue(byte[] bytes, String value) {
+    bytes = bytes.clone();
+    byte[] search = "AAAA".getBytes();
+    for (int i = 0; i <= bytes.length - search.length; i++) {
+      boolean found = true;
+      for (int j = 0; j < search.length; j++) {
+        found &= bytes[i + j] == search[j];
+      }
+      if (found) {
+        System.arraycopy(value.getBytes(), 0, bytes, i, search.length);
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * {@link ICacheableByteCodeProcessor} that replaces "AAAA" constant in <code>MyValue</code>.
+   */
+  private static final class ReplaceValueProcessor implements ICacheableByteCodeProcessor {
+    private final String m_session;
+    private final String m_value;
+    private final int[] m_count;
+
+    public ReplaceValueProcessor(String session, String value, int[] count) {
+      m_session = session;
+      m_value = value;
+      m_count = count;
+    }
+
+    public void initialize(ProjectClassLoader classLoader) {
+    }
+
+    public String getCacheKey() {
+      return m_session + " " + m_value;
+    }
+
+    public byte[] process(String className, byte[] bytes) {
+      if (className.equals("test.MyValue")) {
+        m_count[0]++;
+        return replaceValue(bytes, m_value);
+      }
+      return bytes;
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   //
   // Import-Package
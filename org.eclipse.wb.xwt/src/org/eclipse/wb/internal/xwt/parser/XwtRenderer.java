@@ -136,11 +136,11 @@ public final class XwtRenderer {
               getClass().getClassLoader(),
               new Class<?>[]{IXWTLoader.class},
               new InvocationHandler() {
+                private final Map<Method, Boolean> m_metaclassMethods = Maps.newHashMap();
+
                 public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
                   Object result = method.invoke(loader0, args);
-                  String methodSignature = ReflectionUtils.getMethodSignature(method);
-                  if (methodSignature.equals("registerMetaclass(java.lang.Class)")
-                      || methodSignature.equals("getMetaclass(java.lang.String,java.lang.String)")) {
+                  if (isMetaclassMethod(method)) {
                     IMetaclass metaclass = (IMetaclass) result;
                     hookProperties(metaclass);
                     hookProperties_ofExposedWidgets(metaclass);
@@ -148,6 +148,23 @@ public final class XwtRenderer {
                   return result;
                 }
 
+                /**
+                 * @return <code>true</code> if given {@link Method} returns {@link IMetaclass}
+                 *         which properties should be hooked. Checked once for each {@link Method},
+                 *         because {@link IXWTLoader} is invoked many times during rendering.
+                 */
+                private boolean isMetaclassMethod(Method method) {
+                  Boolean result = m_metaclassMethods.get(method);
+                  if (result == null) {
+                    String signature = ReflectionUtils.getMethodSignature(method);
+                    result =
+                        signature.equals("registerMetaclass(java.lang.Class)")
+                            || signature.equals("getMetaclass(java.lang.String,java.lang.String)");
+                    m_metaclassMethods.put(method, result);
+                  }
+                  return result;
+                }
+
                 private void hookProperties_ofExposedWidgets(IMetaclass metaclass) throws Exception {
                   for (Method typeMethod : metaclass.getType().getMethods()) {
                     Class<?> returnType = typeMethod.getReturnType();